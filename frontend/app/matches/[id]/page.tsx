@@ -18,30 +18,10 @@ interface NetworkMetric {
     realTimeSec: number;
     count: number;
     density: number;
-    positionDaCounts: string;
-    positionReceiveCounts: string;
+    positionDaCounts: number[];      // [TOP, JUG, MID, ADC, SUP] 발신 횟수
+    positionReceiveCounts: number[]; // [TOP, JUG, MID, ADC, SUP] 수신 횟수
 }
 
-// 문자열 파싱 함수
-const parsePositionCounts = (str: string | null) => {
-    const counts = { TOP: 0, JUG: 0, MID: 0, ADC: 0, SUP: 0 };
-    if (!str) return counts;
-
-    str.split(',').forEach(part => {
-        const [role, val] = part.split(':');
-        if (role && val) {
-            // @ts-ignore
-            const key = role.trim();
-            // @ts-ignore
-            if (counts.hasOwnProperty(key)) {
-                // @ts-ignore
-                counts[key] += parseInt(val, 10);
-            }
-        }
-    });
-    return counts;
-};
-
 export default function MatchDetailPage() {
     // 1. URL 파라미터 처리 (배열일 경우 첫 번째 값 사용)
     const params = useParams();
@@ -60,6 +40,9 @@ export default function MatchDetailPage() {
     const [metrics, setMetrics] = useState<NetworkMetric[]>([]);
     const [exactDensity, setExactDensity] = useState<number>(0);
 
+    // 선택 구간의 보이스 로그 (GET /voice-logs 로 구간만 받아옴)
+    const [rangeLogs, setRangeLogs] = useState<any[]>([]);
+
     // 3. 헬퍼 함수: 패턴 문자열 -> 소스/타겟 코드 변환
     const getPatternParams = (pattern: string) => {
         if (pattern === "전체 (ALL)") return { s: -1, t: -1 };
@@ -71,7 +54,7 @@ export default function MatchDetailPage() {
         return { s: 1, t: 0 }; // 기본값: Q->I
     };
 
-    // 4. API 1: 초기 매치 데이터 로드 (게임 정보, 로그, 이벤트)
+    // 4. API 1: 초기 매치 데이터 로드 (게임 정보, 플레이어, 이벤트 - 로그는 구간별로 따로 받음)
     useEffect(() => {
         // [수정 후] 0번(초기 화면)이면 로딩 상태를 false로 바꾸고 데이터 비우기
         if (currentMatchId === 0) {
@@ -83,7 +66,9 @@ export default function MatchDetailPage() {
         const fetchGameData = async () => {
             setLoading(true);
             try {
-                const response = await axios.get(`${process.env.NEXT_PUBLIC_API_URL}/api/matches/${currentMatchId}`);
+                const response = await axios.get(`${process.env.NEXT_PUBLIC_API_URL}/api/matches/${currentMatchId}`, {
+                    params: { voiceLogs: false }
+                });
                 setMatchData(response.data);
 
                 // [추가] 초기 로딩 시 전체 기간으로 범위 설정 (Duration이 있으면)
@@ -170,27 +155,55 @@ export default function MatchDetailPage() {
     }, [timeRange, selectedPattern, currentMatchId, matchData]);
 
 
+    // 6-1. API 4: 타임라인(구간) 변경 시 그 구간의 로그만 커서로 이어받기
+    useEffect(() => {
+        if (!matchData) return;
+
+        let cancelled = false;
+        const fetchRangeLogs = async () => {
+            const logs: any[] = [];
+            let cursor: string | null = null;
+            try {
+                do {
+                    const res: any = await axios.get(`${process.env.NEXT_PUBLIC_API_URL}/api/matches/${currentMatchId}/voice-logs`, {
+                        params: {
+                            from: timeRange.start,
+                            to: timeRange.end === Infinity ? undefined : timeRange.end,
+                            cursor: cursor ?? undefined,
+                            limit: 500
+                        }
+                    });
+                    if (cancelled) return;
+                    logs.push(...res.data.items);
+                    cursor = res.data.nextCursor;
+                } while (cursor);
+                setRangeLogs(logs);
+            } catch (e) {
+                console.error("Voice Log Load Fail:", e);
+            }
+        };
+
+        // 디바운싱: 드래그 중에는 요청하지 않음
+        const timer = setTimeout(fetchRangeLogs, 300);
+        return () => {
+            cancelled = true;
+            clearTimeout(timer);
+        };
+    }, [timeRange, currentMatchId, matchData]);
+
+
     // 7. 로그 필터링 로직 (채팅창 표시용)
     // 7. 로그 필터링 로직 (수정본)
     const filteredLogs = useMemo(() => {
-        // 데이터가 없으면 빈 배열
-        if (!matchData?.voiceLogs) return [];
-
-        let logs = matchData.voiceLogs;
-
-        // (1) 시간 필터링
-        if (timeRange.end !== Infinity) {
-            logs = logs.filter((log: any) =>
-                log.startTime >= timeRange.start && log.startTime <= timeRange.end
-            );
-        }
+        // (1) 시간 필터링은 서버에서 이미 끝남 (rangeLogs = 선택 구간의 로그, 시간순)
+        const logs = rangeLogs;
 
         // (2) 패턴 필터링
         const { s, t } = getPatternParams(selectedPattern);
 
         // "전체(ALL)" 패턴이면 필터링 없이 시간 맞는 거 다 보여줌
         if (s === -1 && t === -1) {
-            return logs.sort((a: any, b: any) => a.startTime - b.startTime);
+            return [...logs].sort((a: any, b: any) => a.startTime - b.startTime);
         }
 
         const resultLogs = new Set<any>();
@@ -231,13 +244,14 @@ export default function MatchDetailPage() {
         // 시간순 정렬해서 반환
         return Array.from(resultLogs).sort((a: any, b: any) => a.startTime - b.startTime);
 
-    }, [matchData, timeRange, selectedPattern]);
+    }, [rangeLogs, selectedPattern]);
 
 
     // 8. 하단 분석 지표 계산 (Radar 차트 합산)
     const dynamicAnalysis = useMemo(() => {
-        const totalOut = { TOP: 0, JUG: 0, MID: 0, ADC: 0, SUP: 0 };
-        const totalIn = { TOP: 0, JUG: 0, MID: 0, ADC: 0, SUP: 0 };
+        // 포지션 순서 [TOP, JUG, MID, ADC, SUP] (API가 배열로 내려줌)
+        const totalOut = [0, 0, 0, 0, 0];
+        const totalIn = [0, 0, 0, 0, 0];
 
         // 현재 선택된 시간 범위 내의 metrics만 합산
         const filteredMetrics = metrics.filter(m =>
@@ -245,29 +259,13 @@ export default function MatchDetailPage() {
             (m.realTimeSec * 1000) <= timeRange.end
         );
 
-        // 문자열 파싱 헬퍼 (예: "TOP:5,JUG:2")
-        const parseCounts = (str: string) => {
-            const res: any = { TOP: 0, JUG: 0, MID: 0, ADC: 0, SUP: 0 };
-            if (!str) return res;
-            str.split(',').forEach(part => {
-                const [role, count] = part.split(':');
-                if (role && count) res[role.trim()] = parseInt(count);
-            });
-            return res;
-        };
-
         filteredMetrics.forEach(m => {
-            const outs = parseCounts(m.positionDaCounts);
-            const ins = parseCounts(m.positionReceiveCounts);
-
-            (Object.keys(totalOut) as Array<keyof typeof totalOut>).forEach(r => {
-                totalOut[r] += outs[r] || 0;
-                totalIn[r] += ins[r] || 0;
-            });
+            for (let i = 0; i < totalOut.length; i++) {
+                totalOut[i] += m.positionDaCounts?.[i] ?? 0;
+                totalIn[i] += m.positionReceiveCounts?.[i] ?? 0;
+            }
         });
 
-        const roles = ['TOP', 'JUG', 'MID', 'ADC', 'SUP'];
-
         // 상태 텍스트 결정
         let stateText = 'Normal';
         if (exactDensity >= 0.3) stateText = '▲ High';
@@ -275,8 +273,8 @@ export default function MatchDetailPage() {
         else if (exactDensity === 0) stateText = '- Silent';
 
         return {
-            cod: roles.map(r => totalOut[r as keyof typeof totalOut]),
-            cid: roles.map(r => totalIn[r as keyof typeof totalIn]),
+            cod: totalOut,
+            cid: totalIn,
             density: exactDensity, // API에서 받은 정밀 값 사용
             text: stateText
         };
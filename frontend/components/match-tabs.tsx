@@ -14,23 +14,38 @@ interface MatchTabProps {
 interface MatchSummary {
     id: number;
     matchCode: string;
+    importedAt: string;
 }
 
+// GET /api/matches/summaries 응답 (keyset 페이지)
+interface MatchSummaryPage {
+    items: MatchSummary[];
+    nextCursor: string | null;
+}
+
+const PAGE_SIZE = 50;
+
 export default function MatchTabs({ currentMatchId, onUploadClick }: MatchTabProps) {
     const router = useRouter();
     const [matches, setMatches] = useState<MatchSummary[]>([]);
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
+
+    // ★ 최근 임포트 순으로 한 페이지씩 가져오기 (cursor가 있으면 이어서)
+    const fetchMatches = async (cursor: string | null) => {
+        try {
+            const res = await axios.get<MatchSummaryPage>(`${process.env.NEXT_PUBLIC_API_URL}/api/matches/summaries`, {
+                params: { sort: 'recent', limit: PAGE_SIZE, cursor: cursor ?? undefined },
+            });
+            setMatches(prev => cursor ? [...prev, ...res.data.items] : res.data.items);
+            setNextCursor(res.data.nextCursor);
+        } catch (err) {
+            console.error("매치 목록 로딩 실패:", err);
+        }
+    };
 
     // ★ 컴포넌트 로딩 시 DB에서 목록 가져오기
     useEffect(() => {
-        const fetchMatches = async () => {
-            try {
-                const res = await axios.get(`${process.env.NEXT_PUBLIC_API_URL}/api/matches/list`);                setMatches(res.data);
-            } catch (err) {
-                console.error("매치 목록 로딩 실패:", err);
-            }
-        };
-
-        fetchMatches();
+        fetchMatches(null);
     }, []);
 
     return (
@@ -68,6 +83,16 @@ export default function MatchTabs({ currentMatchId, onUploadClick }: MatchTabPro
                         </button>
                     );
                 })}
+
+                {/* 다음 페이지 */}
+                {nextCursor && (
+                    <button
+                        onClick={() => fetchMatches(nextCursor)}
+                        className="h-full px-3 text-xs text-slate-500 hover:text-slate-300 hover:bg-slate-900 shrink-0"
+                    >
+                        더 보기
+                    </button>
+                )}
             </div>
         </div>
     );
@@ -9,6 +9,8 @@ import axios from 'axios';
 // 1. 타입 정의
 interface NetworkMetricData {
     timeIndex: number;
+    startSec: number;      // 칸 시작 시각 (초)
+    resolution: number;    // 10 / 30 / 60, 0 = 게임 단계
     count: number;
     density: number;
     cod: number;
@@ -50,6 +52,14 @@ const PATTERNS: Pattern[] = [
     { label: "정보(I) ➡ 지시(D)", source: 0, target: 2, color: "#d0ed57" },
     { label: "약속(C) ➡ 정보(I)", source: 3, target: 0, color: "#a4de6c" },
 ];
+// 지표 해상도 (API resolution 파라미터) - 긴 경기는 10초 단위면 점이 너무 많음
+const RESOLUTIONS = [
+    { value: '10', label: '10초' },
+    { value: '30', label: '30초' },
+    { value: '60', label: '1분' },
+    { value: 'phase', label: '게임 단계' },
+];
+
 const METRICS: MetricOption[] = [
     { id: 'COUNT', name: '횟수 (Count)', desc: '대화 발생 총 횟수' },
     { id: 'DENSITY', name: '밀도 (Density)', desc: '연결망의 촘촘함 (0~1.0)' },
@@ -60,6 +70,7 @@ const METRICS: MetricOption[] = [
 export default function NetworkChart({ matchId, timeRange, events = [], selectedPattern, onPatternChange }: NetworkChartProps) {
     const [data, setData] = useState<NetworkMetricData[]>([]);
     const [activeMetric, setActiveMetric] = useState<MetricOption['id']>('COUNT');
+    const [resolution, setResolution] = useState<string>('10');
 
     const currentPattern = useMemo(() => {
         return PATTERNS.find(p => p.label === selectedPattern) || PATTERNS[0];
@@ -73,14 +84,15 @@ export default function NetworkChart({ matchId, timeRange, events = [], selected
                 const res = await axios.get<NetworkMetricData[]>(`${process.env.NEXT_PUBLIC_API_URL}/api/matches/${matchId}/metrics`, {
                     params: {
                         sourceDa: currentPattern.source,
-                        targetDa: currentPattern.target
+                        targetDa: currentPattern.target,
+                        resolution
                     }
                 });
 
                 const formattedData = res.data.map(item => ({
                     ...item,
-                    timeLabel: formatTime(item.timeIndex * 10), // 여기서 미리 포맷팅 가능하지만 아래에서 직접 처리함
-                    realTimeSec: item.timeIndex * 10
+                    timeLabel: formatTime(item.startSec), // 여기서 미리 포맷팅 가능하지만 아래에서 직접 처리함
+                    realTimeSec: item.startSec
                 }));
 
                 setData(formattedData);
@@ -90,7 +102,7 @@ export default function NetworkChart({ matchId, timeRange, events = [], selected
         };
 
         fetchData();
-    }, [matchId, currentPattern]);
+    }, [matchId, currentPattern, resolution]);
 
     // ★ [핵심] 시간 포맷터 함수 (소수점 제거)
     const formatTime = (seconds: number): string => {
@@ -167,6 +179,16 @@ export default function NetworkChart({ matchId, timeRange, events = [], selected
                             <option key={idx} value={idx}>{p.label}</option>
                         ))}
                     </select>
+                    <span className="text-gray-400 font-semibold text-sm ml-2">단위:</span>
+                    <select
+                        className="bg-slate-800 border border-slate-600 text-white rounded px-3 py-2 text-sm focus:outline-none focus:border-blue-500"
+                        value={resolution}
+                        onChange={(e) => setResolution(e.target.value)}
+                    >
+                        {RESOLUTIONS.map((r) => (
+                            <option key={r.value} value={r.value}>{r.label}</option>
+                        ))}
+                    </select>
                 </div>
 
                 <div className="flex bg-slate-800 rounded-lg p-1">
@@ -9,10 +9,31 @@ interface UploadModalProps {
     onClose: () => void;
 }
 
+// 백엔드 임포트 작업 상태 (GET /api/matches/jobs/{jobId})
+interface ImportJob {
+    jobId: string;
+    stage: 'QUEUED' | 'UNZIP' | 'PERSIST' | 'ANALYZE' | 'DONE' | 'FAILED';
+    progress: number;
+    matchId: number | null;
+    error: string | null;
+}
+
+const STAGE_LABELS: Record<ImportJob['stage'], string> = {
+    QUEUED: '대기 중',
+    UNZIP: '압축 해제 중',
+    PERSIST: '저장 중',
+    ANALYZE: '분석 중',
+    DONE: '완료',
+    FAILED: '실패',
+};
+
+const POLL_INTERVAL_MS = 1000;
+
 export default function UploadModal({ isOpen, onClose }: UploadModalProps) {
     const [file, setFile] = useState<File | null>(null);
     const [gameName, setGameName] = useState(""); // ★ [추가] 게임 이름 상태
     const [uploading, setUploading] = useState(false);
+    const [job, setJob] = useState<ImportJob | null>(null); // ★ 진행 중인 임포트 작업
     const router = useRouter();
 
     if (!isOpen) return null;
@@ -35,20 +56,42 @@ export default function UploadModal({ isOpen, onClose }: UploadModalProps) {
 
         setUploading(true);
         try {
-            // 주소 확인 (MatchController의 주소와 일치해야 함)
-            const response = await axios.post(`${process.env.NEXT_PUBLIC_API_URL}/api/matches`, formData, {
+            // 업로드는 작업(Job)으로 등록만 하고 바로 jobId를 받음 (임포트는 서버 백그라운드에서 진행)
+            const response = await axios.post<ImportJob>(`${process.env.NEXT_PUBLIC_API_URL}/api/matches/jobs`, formData, {
                 headers: { "Content-Type": "multipart/form-data" },
             });
 
+            // 끝날 때까지 진행 상황 폴링
+            let current = response.data;
+            setJob(current);
+            while (current.stage !== 'DONE' && current.stage !== 'FAILED') {
+                await new Promise(resolve => setTimeout(resolve, POLL_INTERVAL_MS));
+                const res = await axios.get<ImportJob>(`${process.env.NEXT_PUBLIC_API_URL}/api/matches/jobs/${current.jobId}`);
+                current = res.data;
+                setJob(current);
+            }
+
+            if (current.stage === 'FAILED' || current.matchId == null) {
+                alert(`업로드 실패: ${current.error ?? '알 수 없는 오류'}`);
+                return;
+            }
+
             alert("업로드 성공!");
             onClose();
             // 업로드 된 페이지로 이동
-            router.push(`/matches/${response.data}`);
+            router.push(`/matches/${current.matchId}`);
         } catch (error) {
             console.error("Upload failed", error);
-            alert("업로드 실패");
+            // 429/503: 서버 임포트가 가득 참 (Retry-After 초 뒤에 다시 시도)
+            if (axios.isAxiosError(error) && (error.response?.status === 503 || error.response?.status === 429)) {
+                const retryAfter = error.response.headers["retry-after"];
+                alert(`지금은 업로드가 많습니다. ${retryAfter ? `${retryAfter}초` : "잠시"} 후 다시 시도해주세요.`);
+            } else {
+                alert("업로드 실패");
+            }
         } finally {
             setUploading(false);
+            setJob(null);
         }
     };
 
@@ -86,7 +129,9 @@ export default function UploadModal({ isOpen, onClose }: UploadModalProps) {
                         disabled={uploading || !file}
                         className="px-4 py-2 bg-blue-600 rounded hover:bg-blue-500 disabled:opacity-50"
                     >
-                        {uploading ? "업로드 중..." : "분석 시작"}
+                        {uploading
+                            ? (job ? `${STAGE_LABELS[job.stage]} (${job.progress}%)` : "업로드 중...")
+                            : "분석 시작"}
                     </button>
                 </div>
             </div>
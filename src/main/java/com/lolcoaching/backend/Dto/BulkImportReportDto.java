@@ -0,0 +1,32 @@
+package com.lolcoaching.backend.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 시즌/대회 단위 일괄 임포트 결과 요약
+ */
+@Getter
+@AllArgsConstructor
+public class BulkImportReportDto {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private long elapsedMs;
+    private List<MatchResult> results; // 원본 순서대로
+
+    @Getter
+    @AllArgsConstructor
+    public static class MatchResult {
+        private String source;    // 경기 ZIP 이름 (예: "T1 vs GEN 1set.zip")
+        private Long matchId;     // 성공 시 생성된 매치 ID
+        private String error;     // 실패 사유 (성공이면 null)
+        private long elapsedMs;
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+}
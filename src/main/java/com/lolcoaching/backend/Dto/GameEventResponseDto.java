@@ -1,9 +1,11 @@
 package com.lolcoaching.backend.Dto;
 
 import com.lolcoaching.backend.domain.GameEvent;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
+@AllArgsConstructor // 스트리밍 내보내기(MatchStreamRepository)에서 JDBC 행으로 바로 생성
 public class GameEventResponseDto {
     private String eventName;
     private Long eventTime;
@@ -0,0 +1,44 @@
+package com.lolcoaching.backend.Dto;
+
+import com.lolcoaching.backend.importer.ImportStage;
+import com.lolcoaching.backend.service.ImportJob;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+public class ImportJobResponseDto {
+    private String jobId;
+    private String matchCode;
+    private ImportStage stage;      // QUEUED -> UNZIP -> PERSIST -> ANALYZE -> DONE / FAILED
+    private int progress;           // 단계 기준 대략적인 진행률 (0~100)
+    private long rowsPersisted;     // 지금까지 저장된 로그/이벤트 수
+    private Long matchId;           // 완료되면 채워짐 -> /matches/{matchId} 로 이동
+    private BulkImportReportDto bulkReport; // 일괄 임포트(POST /api/matches/bulk) 작업이면 완료 후 경기별 결과
+    private String error;           // 실패 사유
+    private Instant createdAt;
+    private Instant finishedAt;
+
+    public ImportJobResponseDto(ImportJob job) {
+        this.jobId = job.getId();
+        this.matchCode = job.getMatchCode();
+        this.stage = job.getStage();
+        this.progress = progressOf(job.getStage());
+        this.rowsPersisted = job.getRowsPersisted().get();
+        this.matchId = job.getMatchId();
+        this.bulkReport = job.getBulkReport();
+        this.error = job.getError();
+        this.createdAt = job.getCreatedAt();
+        this.finishedAt = job.getFinishedAt();
+    }
+
+    private static int progressOf(ImportStage stage) {
+        switch (stage) {
+            case QUEUED:  return 0;
+            case UNZIP:   return 10;
+            case PERSIST: return 30;
+            case ANALYZE: return 80;
+            default:      return 100; // DONE, FAILED
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.lolcoaching.backend.Dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 경기 목록 페이지 커서 = 마지막으로 내려준 경기의 (정렬 키, id)
+ * 정렬 키는 sort=recent면 임포트 시각(ISO), sort=code면 경기 이름입니다.
+ * VoiceLogCursor와 같이 base64url로 감싸서 내려줍니다.
+ */
+public record MatchListCursor(String key, long id) {
+
+    public String encode() {
+        String raw = id + "," + key; // 경기 이름에 쉼표가 있을 수 있어서 id를 앞에 둠
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** @throws IllegalArgumentException 형식이 잘못된 커서 */
+    public static MatchListCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int comma = raw.indexOf(',');
+            return new MatchListCursor(raw.substring(comma + 1), Long.parseLong(raw.substring(0, comma)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서: " + cursor, e);
+        }
+    }
+}
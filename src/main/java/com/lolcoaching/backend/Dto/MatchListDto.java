@@ -4,10 +4,13 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
 public class MatchListDto {
     private Long id;
     private String matchCode; // 게임 이름 (예: T1 vs GEN 1set)
+    private LocalDateTime importedAt;
 }
\ No newline at end of file
@@ -15,7 +15,7 @@ public class MatchResponseDto {
     private String matchCode;
     private Long duration; // 전체 게임 시간 (밀리초 단위)
 
-    private List<VoiceLogResponseDto> voiceLogs;
+    private List<VoiceLogResponseDto> voiceLogs;  // ?voiceLogs=false 이면 null (GET /{id}/voice-logs 로 구간별 조회)
     private List<PlayerResponseDto> players;      // 엔티티 대신 DTO 사용
     private List<GameEventResponseDto> gameEvents; // 엔티티 대신 DTO 사용
 }
\ No newline at end of file
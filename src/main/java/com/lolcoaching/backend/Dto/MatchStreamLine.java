@@ -0,0 +1,12 @@
+package com.lolcoaching.backend.Dto;
+
+/**
+ * 경기 내보내기(NDJSON)의 한 줄. type으로 data의 종류를 구분합니다.
+ *
+ *   {"type":"match","data":{"matchId":3,"matchCode":"...","duration":1345928}}
+ *   {"type":"player","data":{...PlayerResponseDto}}
+ *   {"type":"voiceLog","data":{...VoiceLogResponseDto}}   (startTime 순)
+ *   {"type":"gameEvent","data":{...GameEventResponseDto}} (eventTime 순)
+ */
+public record MatchStreamLine(String type, Object data) {
+}
@@ -0,0 +1,31 @@
+package com.lolcoaching.backend.Dto;
+
+import com.lolcoaching.backend.domain.VoiceLog;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** GET /api/matches/search 결과 한 줄 (어느 경기, 몇 초에, 누가) */
+@Getter
+@NoArgsConstructor
+public class TranscriptHitDto {
+    private Long matchId;
+    private Long logId;
+    private Long startTime;     // 밀리초
+    private String position;    // "MID", "JUG" 등
+    private String speakerName; // 소환사명
+    private String textKor;
+
+    public TranscriptHitDto(VoiceLog log) {
+        this.matchId = log.getGameMatch().getId(); // 프록시라서 id만 꺼내면 추가 조회 없음
+        this.logId = log.getId();
+        this.startTime = log.getStartTime().longValue();
+        this.textKor = log.getTextKor();
+        if (log.getPlayer() != null) {
+            this.position = log.getPlayer().getPosition();
+            this.speakerName = log.getPlayer().getSummonerName();
+        } else {
+            this.position = "UNKNOWN";
+            this.speakerName = "Unknown";
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.lolcoaching.backend.Dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 보이스 로그 페이지 커서 = 마지막으로 내려준 로그의 (startTime, id)
+ * 정렬 키를 그대로 담아서 다음 페이지는 "이 키보다 뒤"만 인덱스로 이어서 읽습니다. (OFFSET 없음)
+ * 클라이언트에는 의미 없는 문자열로 보이도록 base64url로 감쌉니다.
+ */
+public record VoiceLogCursor(double startTime, long id) {
+
+    public String encode() {
+        String raw = startTime + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** @throws IllegalArgumentException 형식이 잘못된 커서 */
+    public static VoiceLogCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int comma = raw.indexOf(',');
+            return new VoiceLogCursor(Double.parseDouble(raw.substring(0, comma)), Long.parseLong(raw.substring(comma + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.lolcoaching.backend.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * GET /api/matches/{id}/voice-logs 응답
+ * nextCursor가 null이면 마지막 페이지입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class VoiceLogPageDto {
+    private List<VoiceLogResponseDto> items; // startTime, logId 오름차순
+    private String nextCursor;               // 다음 페이지 요청 시 cursor 파라미터로 그대로 전달
+}
@@ -1,11 +1,13 @@
 package com.lolcoaching.backend.Dto;
 
 import com.lolcoaching.backend.domain.VoiceLog;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor // 스트리밍 내보내기(MatchStreamRepository)에서 JDBC 행으로 바로 생성
 public class VoiceLogResponseDto {
     private Long logId;
     private String textKor;
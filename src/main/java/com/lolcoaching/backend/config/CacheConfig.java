@@ -0,0 +1,92 @@
+package com.lolcoaching.backend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lolcoaching.backend.Dto.MatchResponseDto;
+import com.lolcoaching.backend.service.MatchRevisionRegistry;
+import com.lolcoaching.backend.service.RangeDensityIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 경기 조회 결과 캐시 (서버 메모리, Caffeine)
+ *
+ * 타임라인을 드래그하는 동안 같은 경기의 상세/지표/구간 밀도를 계속 다시 요청하므로 결과(구간 밀도는 색인)를 메모리에 둡니다.
+ *  - 캐시마다 크기 상한(행 수 기준 가중치 또는 항목 수) + 마지막 접근 후 TTL
+ *  - 키는 항상 (경기 id, 경기 ETag, 나머지 인자들)
+ *    ETag(리비전)가 키에 있으므로 커밋 전 데이터로 만든 값이 늦게 들어와도 새 ETag로는 절대 안 읽힘
+ *    (지우는 순서와 상관없이 예전 본문이 새 ETag로 나가지 않음, 예전 항목은 MatchCacheEvictor가 메모리에서 정리)
+ *  - recordStats: /actuator/metrics/cache.gets?tag=cache:matchDetail 등으로 hit/miss 확인
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String MATCH_DETAIL = "matchDetail";
+    public static final String METRIC_TIMELINE = "metricTimeline";
+    public static final String RANGE_INDEX = "rangeIndex";
+    public static final String MATCH_KEY_GENERATOR = "matchKeyGenerator";
+
+    /** 캐시 키: 첫 번째 인자가 경기 id인 메서드 전용 (etag: 키를 만들 때의 경기 ETag, 없는 경기면 null) */
+    public record MatchKey(Long matchId, String etag, List<Object> params) {
+
+        public static MatchKey of(MatchRevisionRegistry registry, Long matchId, List<Object> params) {
+            return new MatchKey(matchId, registry.etagOf(matchId).orElse(null), params);
+        }
+    }
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.ttl-minutes:10}") long ttlMinutes,
+            @Value("${cache.match-detail.max-rows:200000}") long detailMaxRows,
+            @Value("${cache.metric-timeline.max-rows:500000}") long timelineMaxRows,
+            @Value("${cache.range-index.max-cells:5000000}") long indexMaxCells) {
+        Duration ttl = Duration.ofMinutes(ttlMinutes);
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+
+        // 상세 응답은 로그 수에 비례해서 크므로 "행 수"로 무게를 잼
+        manager.registerCustomCache(MATCH_DETAIL, Caffeine.newBuilder()
+                .maximumWeight(detailMaxRows)
+                .weigher((Object key, Object value) -> 1 + rowsOf((MatchResponseDto) value))
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build());
+        manager.registerCustomCache(METRIC_TIMELINE, Caffeine.newBuilder()
+                .maximumWeight(timelineMaxRows)
+                .weigher((Object key, Object value) -> 1 + ((List<?>) value).size())
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build());
+        // 구간 밀도 색인 (RangeDensityIndexService)은 세그먼트 트리 칸 수로 무게를 잼 (칸 = int 4바이트)
+        manager.registerCustomCache(RANGE_INDEX, Caffeine.newBuilder()
+                .maximumWeight(indexMaxCells)
+                .weigher((Object key, Object value) -> 1 + ((RangeDensityIndex) value).weight())
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build());
+        manager.setAllowNullValues(false);
+        return manager;
+    }
+
+    @Bean(MATCH_KEY_GENERATOR)
+    public KeyGenerator matchKeyGenerator(MatchRevisionRegistry matchRevisionRegistry) {
+        return (target, method, params) -> MatchKey.of(matchRevisionRegistry,
+                (Long) params[0], Arrays.asList(Arrays.copyOfRange(params, 1, params.length)));
+    }
+
+    private static int rowsOf(MatchResponseDto dto) {
+        return size(dto.getVoiceLogs()) + size(dto.getPlayers()) + size(dto.getGameEvents());
+    }
+
+    private static int size(List<?> list) {
+        return list == null ? 0 : list.size();
+    }
+}
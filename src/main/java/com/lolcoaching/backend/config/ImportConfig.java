@@ -0,0 +1,30 @@
+package com.lolcoaching.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ImportConfig {
+
+    /**
+     * 비동기 임포트 작업용 스레드 풀.
+     * 동시에 도는 임포트 수(threads)와 대기열 길이(queue-capacity)가 모두 제한되어 있어서,
+     * 가득 차면 새 작업은 바로 거절됩니다. (TaskRejectedException)
+     */
+    @Bean(name = "importJobExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor importJobExecutor(
+            @Value("${import.jobs.threads:2}") int threads,
+            @Value("${import.jobs.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("match-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,75 @@
+package com.lolcoaching.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본(replica) DB로 보내는 설정 (datasource.replica.enabled=true 일 때만)
+ *
+ * 임포트(배치 INSERT + 지표 계산)가 몰릴 때 대시보드 조회가 같은 DB를 두고 경쟁하지 않도록,
+ * @Transactional(readOnly = true) 경로(경기 상세, 지표/구간 분석, 경기 목록 등)는 복제본에서 읽습니다.
+ *
+ * - LazyConnectionDataSourceProxy: 첫 SQL을 보낼 때까지 실제 커넥션을 늦게 잡기 때문에
+ *   트랜잭션이 readOnly로 표시된 뒤에 어느 쪽 DB를 쓸지 고를 수 있음 (readOnly 커넥션 -> readOnlyDataSource)
+ * - 복제본이 max-lag보다 뒤처져 있으면(ReplicaLagMonitor) 읽기도 primary로 보냄
+ * - 캐시를 채우거나 ETag와 짝지어 나가는 경기 조회(ReplicaReadContext)는 복제본이 그 경기의 마지막 변경을 받은 뒤에만 복제본
+ * - 쓰기와, 방금 쓴 값을 읽어야 하는 커밋 후 처리는 항상 primary
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username:}") String username,
+                                              @Value("${datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setReadOnly(true);
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+                                               @Value("${datasource.replica.check-interval-ms:1000}") long checkIntervalMs,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(primary, replica, Duration.ofSeconds(maxLagSeconds),
+                Duration.ofMillis(checkIntervalMs), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replica, replicaLagMonitor));
+        return proxy;
+    }
+}
@@ -0,0 +1,139 @@
+package com.lolcoaching.backend.config;
+
+import io.micrometer.core.instrument.Gauge;
+import com.lolcoaching.backend.service.MatchDataChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복제본 지연(lag) 측정
+ *
+ * primary의 replica_heartbeat 테이블에 주기적으로 현재 시각을 쓰고, 복제본에서 그 값을 읽어서
+ * "지금 - 복제본에 보이는 마지막 시각"을 지연으로 봅니다. (MySQL 복제 상태 조회 권한 없이도 동작)
+ * 지연이 max-lag를 넘거나 복제본을 읽을 수 없으면 읽기를 primary로 돌립니다.
+ *
+ * 경기 단위로는 더 엄격하게 봅니다: 경기가 바뀐 커밋(MatchDataChangedEvent) 시각을 기억해 두고,
+ * 복제본에 보이는 heartbeat가 그 시각을 넘기 전까지는 그 경기 조회(ReplicaReadContext)를 primary로 보냅니다.
+ * (변경 시각보다 큰 heartbeat는 커밋 뒤에 시각을 재서 쓴 값이라, 복제본에 보이면 그 앞의 커밋도 이미 반영된 것.
+ *  같은 ms의 heartbeat는 커밋 전에 쓴 것일 수 있으므로 따라잡은 것으로 보지 않음)
+ * 그래야 지표 재계산 직후 캐시에 예전 값이 채워지거나, 새 ETag에 예전 내용(또는 404)이 붙어 나가지 않습니다.
+ * 서버가 막 떠서 변경 기록이 없을 때는 시작 후 첫 heartbeat가 복제본에 보일 때까지 경기 조회를 primary로 보냅니다.
+ *
+ * 지표: datasource.replica.lag (초), datasource.replica.usable (1/0)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String CREATE_TABLE =
+            "create table if not exists replica_heartbeat (id int primary key, beat_at bigint not null)";
+    private static final String BEAT =
+            "insert into replica_heartbeat (id, beat_at) values (1, ?) on duplicate key update beat_at = values(beat_at)";
+    private static final String READ = "select beat_at from replica_heartbeat where id = 1";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "replica-lag-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 경기별 마지막 변경 커밋 시각 (복제본이 따라잡으면 check()에서 지움)
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+    private final long startedAt = System.currentTimeMillis();
+
+    private volatile boolean replicaUsable;
+    private volatile long lagMillis = -1;
+    private volatile long replicaBeat = -1; // 복제본에 보이는 마지막 heartbeat 값
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, Duration checkInterval,
+                             MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        Gauge.builder("datasource.replica.lag", this, m -> m.lagMillis < 0 ? Double.NaN : m.lagMillis / 1000.0)
+                .description("Seconds the replica is behind the primary heartbeat")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, m -> m.replicaUsable ? 1 : 0)
+                .description("1 if read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    void start() {
+        primary.execute(CREATE_TABLE);
+        check();
+        scheduler.scheduleWithFixedDelay(this::check, checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /** 이 경기를 복제본에서 읽어도 되는지 (matchId가 null이면 경기 조회가 아님 -> 지연만 봄) */
+    public boolean isReplicaUsable(Long matchId) {
+        if (!replicaUsable) return false;
+        if (matchId == null) return true;
+        long beat = replicaBeat;
+        // heartbeat 시각은 쓰기 전에 잰 값 -> 같은 ms면 변경 커밋보다 먼저 쓰였을 수 있어서 strict 비교
+        return beat > startedAt && beat > changedAt.getOrDefault(matchId, 0L);
+    }
+
+    // 다른 커밋 후 처리(캐시 삭제, ETag 갱신)보다 먼저 기록 -> 그 뒤 조회는 이미 primary로 감
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMatchDataChanged(MatchDataChangedEvent event) {
+        changedAt.put(event.matchId(), System.currentTimeMillis());
+    }
+
+    /** primary에 heartbeat를 쓰고 복제본 지연을 다시 잽니다. (스케줄러가 주기적으로 호출) */
+    public void check() {
+        long now = System.currentTimeMillis();
+        try {
+            primary.update(BEAT, now);
+        } catch (RuntimeException e) {
+            log.warn("replica heartbeat 기록 실패: {}", e.getMessage());
+        }
+
+        boolean usable;
+        try {
+            List<Long> beats = replica.queryForList(READ, Long.class);
+            lagMillis = beats.isEmpty() ? -1 : Math.max(0, now - beats.get(0));
+            usable = lagMillis >= 0 && lagMillis <= maxLag.toMillis();
+            if (!beats.isEmpty()) {
+                long beat = beats.get(0);
+                replicaBeat = beat;
+                changedAt.values().removeIf(at -> at < beat);
+            }
+        } catch (RuntimeException e) {
+            lagMillis = -1;
+            usable = false;
+        }
+        if (usable != replicaUsable) {
+            log.info("읽기 전용 조회 -> {} (replica lag={}ms, max={}ms)",
+                    usable ? "replica" : "primary", lagMillis, maxLag.toMillis());
+        }
+        replicaUsable = usable;
+    }
+}
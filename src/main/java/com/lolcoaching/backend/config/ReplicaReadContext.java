@@ -0,0 +1,34 @@
+package com.lolcoaching.backend.config;
+
+import java.util.function.Supplier;
+
+/**
+ * 지금 스레드의 읽기가 어느 경기를 위한 것인지 표시 (ReplicaRoutingDataSource가 봄)
+ *
+ * 캐시에 들어가거나 ETag와 짝지어 나가는 경기 조회는 이 안에서 실행합니다.
+ * 복제본이 그 경기의 마지막 변경 커밋을 아직 못 받았으면 readOnly여도 primary에서 읽습니다. (ReplicaLagMonitor.isReplicaUsable(matchId))
+ * 커넥션은 첫 SQL 때 잡히므로(LazyConnectionDataSourceProxy) @Transactional(readOnly = true) 메서드 안에서 감싸도 됩니다.
+ */
+public final class ReplicaReadContext {
+
+    private static final ThreadLocal<Long> MATCH = new ThreadLocal<>();
+
+    private ReplicaReadContext() {
+    }
+
+    public static <T> T forMatch(Long matchId, Supplier<T> read) {
+        Long previous = MATCH.get();
+        MATCH.set(matchId);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) MATCH.remove();
+            else MATCH.set(previous);
+        }
+    }
+
+    /** 경기 조회가 아니면 null */
+    static Long currentMatch() {
+        return MATCH.get();
+    }
+}
@@ -0,0 +1,44 @@
+package com.lolcoaching.backend.controller;
+
+import com.lolcoaching.backend.Dto.ImportJobResponseDto;
+import com.lolcoaching.backend.service.ImportAdmission;
+import com.lolcoaching.backend.service.ImportJob;
+import com.lolcoaching.backend.service.ImportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/matches")
+@RequiredArgsConstructor
+public class BulkImportController {
+
+    private final ImportJobService importJobService;
+    private final ImportAdmission importAdmission;
+
+    // 경기 ZIP 여러 개를 묶은 ZIP(대회 하루치 등)을 작업으로 받고 바로 202 (진행/결과는 GET /api/matches/jobs/{jobId})
+    @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobResponseDto> bulkImport(@RequestPart("file") MultipartFile file) {
+        try {
+            ImportJob job = importJobService.submitBulk(file);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/matches/jobs/" + job.getId()))
+                    .body(new ImportJobResponseDto(job));
+        } catch (TaskRejectedException e) {
+            // 대기열이 가득 참 -> Retry-After 뒤에 다시 시도
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(importAdmission.getRetryAfterSeconds()))
+                    .build();
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.lolcoaching.backend.controller;
+
+import com.lolcoaching.backend.Dto.ImportJobResponseDto;
+import com.lolcoaching.backend.service.ImportAdmission;
+import com.lolcoaching.backend.service.ImportJob;
+import com.lolcoaching.backend.service.ImportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/matches/jobs")
+@RequiredArgsConstructor
+public class ImportJobController {
+
+    private final ImportJobService importJobService;
+    private final ImportAdmission importAdmission;
+
+    // 업로드 즉시 jobId를 돌려주고, 임포트는 백그라운드에서 진행 (202 Accepted)
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobResponseDto> submitImport(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam("matchCode") String matchCode
+    ) {
+        try {
+            ImportJob job = importJobService.submit(file, matchCode);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/matches/jobs/" + job.getId()))
+                    .body(new ImportJobResponseDto(job));
+        } catch (TaskRejectedException e) {
+            // 대기열이 가득 참 -> Retry-After 뒤에 다시 시도
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(importAdmission.getRetryAfterSeconds()))
+                    .build();
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    // 진행 상황 조회 (프론트엔드에서 폴링) -> stage가 DONE이면 matchId 사용
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobResponseDto> getJob(@PathVariable String jobId) {
+        return importJobService.find(jobId)
+                .map(job -> ResponseEntity.ok(new ImportJobResponseDto(job)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -1,11 +1,29 @@
 package com.lolcoaching.backend.controller;
 
 import com.lolcoaching.backend.Dto.MatchResponseDto; // DTO 패키지명 주의 (Dto vs dto)
+import com.lolcoaching.backend.Dto.TranscriptHitDto;
+import com.lolcoaching.backend.Dto.VoiceLogCursor;
+import com.lolcoaching.backend.Dto.VoiceLogPageDto;
+import com.lolcoaching.backend.service.ImportRejectedException;
+import com.lolcoaching.backend.service.MatchExportService;
 import com.lolcoaching.backend.service.MatchImportService; // ★ 서비스 임포트 필수!
+import com.lolcoaching.backend.service.MatchSnapshotService;
+import com.lolcoaching.backend.service.TranscriptSearchService;
+import com.lolcoaching.backend.service.VoiceLogService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/matches") // ★ 1. 프론트엔드와 맞추기 위해 복수형(matches)으로 변경
@@ -15,12 +33,39 @@ public class MatchController {
     // ★ 2. Repository 대신 'Service'를 불러와야 합니다.
     // (Controller는 Service에게 시키고, Service가 Repository를 쓰는 구조입니다)
     private final MatchImportService matchImportService;
+    private final VoiceLogService voiceLogService;
+    private final MatchExportService matchExportService;
+    private final MatchHttpCache matchHttpCache;
+    private final MatchSnapshotService matchSnapshotService;
+    private final TranscriptSearchService transcriptSearchService;
 
     @GetMapping("/{id}") // 결과: GET http://3.34.82.181/api/matches/3
-    public ResponseEntity<MatchResponseDto> getMatchDetail(@PathVariable Long id) {
+    public ResponseEntity<MatchResponseDto> getMatchDetail(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "true") boolean voiceLogs, // false: 메타데이터만 (로그는 /voice-logs)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        // ★ Accept-Encoding에 따라 gzip 스냅샷 / 일반 JSON으로 갈리므로 304, 404를 포함한 모든 응답에 Vary
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        // ★ 전체 상세 + gzip 가능 -> 미리 만들어 둔 스냅샷 파일을 그대로 전송 (DB 조회/직렬화 없음)
+        if (voiceLogs && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            Optional<MatchSnapshotService.Snapshot> snapshot = matchSnapshotService.snapshotOf(id);
+            if (snapshot.isPresent()) {
+                matchHttpCache.sendSnapshot(snapshot.get(), ifNoneMatch, request, response);
+                return null; // 응답을 직접 씀
+            }
+        }
+        // ★ 경기 ETag가 그대로면 DB를 거치지 않고 304
+        return matchHttpCache.respond(id, ifNoneMatch, () -> loadMatchDetail(id, voiceLogs));
+    }
+
+    private ResponseEntity<MatchResponseDto> loadMatchDetail(Long id, boolean voiceLogs) {
         try {
             // 서비스에 위임해서 DTO 받아오기
-            MatchResponseDto responseDto = matchImportService.getMatchDetail(id);
+            MatchResponseDto responseDto = matchImportService.getMatchDetail(id, voiceLogs);
             return ResponseEntity.ok(responseDto);
         } catch (IllegalArgumentException e) {
             // ID에 해당하는 매치가 없으면 404 리턴
@@ -32,6 +77,63 @@ public class MatchController {
         }
     }
 
+    // 시간 구간 단위 로그 조회 (커서 페이지네이션)
+    // 예: GET /api/matches/3/voice-logs?from=60000&to=120000&position=MID&act=1&limit=200
+    //     -> 응답의 nextCursor를 cursor로 넘겨서 다음 페이지
+    @GetMapping("/{id}/voice-logs")
+    public ResponseEntity<VoiceLogPageDto> getVoiceLogs(
+            @PathVariable Long id,
+            @RequestParam(required = false) Double from,     // ms (포함)
+            @RequestParam(required = false) Double to,       // ms (포함)
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(name = "position", required = false) List<String> positions,
+            @RequestParam(name = "act", required = false) List<Integer> actCodes,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        VoiceLogCursor after;
+        try {
+            after = cursor == null || cursor.isEmpty() ? null : VoiceLogCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return matchHttpCache.respond(id, ifNoneMatch, () -> {
+            try {
+                return ResponseEntity.ok(voiceLogService.getVoiceLogs(id, from, to, positions, actCodes, after, limit));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.notFound().build();
+            }
+        });
+    }
+
+    // 전체 경기 대사 검색 (예: GET /api/matches/search?q=바론&limit=50)
+    // 결과: 최근에 임포트된 경기부터 [경기 id, 시각, 발화자, 대사]
+    @GetMapping("/search")
+    public ResponseEntity<List<TranscriptHitDto>> searchTranscripts(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            return ResponseEntity.ok(transcriptSearchService.search(q, limit));
+        } catch (IllegalArgumentException e) {
+            // 두 글자 미만 검색어
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 경기 전체 내보내기 (NDJSON 스트리밍: 한 줄에 match / player / voiceLog / gameEvent 하나씩)
+    // 로그를 메모리에 모으지 않고 DB 커서에서 읽는 대로 바로 내려보냄
+    @GetMapping(value = "/{id}/export", produces = MatchExportService.NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportMatch(@PathVariable Long id) {
+        if (!matchExportService.exists(id)) return ResponseEntity.notFound().build();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(MatchExportService.NDJSON))
+                .header("Content-Disposition", "attachment; filename=\"match-" + id + ".ndjson\"")
+                .body(out -> matchExportService.writeNdjson(id, out));
+    }
+
     @PostMapping
     public ResponseEntity<Long> uploadMatch(
             @RequestParam("file") MultipartFile file,
@@ -41,6 +143,11 @@ public class MatchController {
             // 서비스에 matchCode도 같이 넘김
             Long matchId = matchImportService.importMatch(file, matchCode);
             return ResponseEntity.ok(matchId);
+        } catch (ImportRejectedException e) {
+            // 동시 임포트 수 초과 -> Retry-After 뒤에 다시 시도 (조회용 커넥션을 지키기 위해 바로 거절)
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .build();
         } catch (Exception e) {
             e.printStackTrace(); // 에러 로그 출력
             return ResponseEntity.badRequest().build();
@@ -0,0 +1,108 @@
+package com.lolcoaching.backend.controller;
+
+import com.lolcoaching.backend.service.MatchRevisionRegistry;
+import com.lolcoaching.backend.service.MatchSnapshotService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 경기 조회 API 공통 조건부 GET 처리 (ETag + If-None-Match)
+ *
+ * 브라우저가 보낸 If-None-Match가 현재 경기 ETag와 같으면, 응답을 만들지 않고(=DB 조회/직렬화 없이) 304를 돌려줍니다.
+ * Cache-Control: no-cache 라서 브라우저는 응답을 저장해두되 쓸 때마다 ETag로 확인받습니다.
+ * (지표 재계산 직후에도 오래된 화면을 보지 않도록 max-age는 주지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+class MatchHttpCache {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    // Tomcat sendfile 요청 속성 (org.apache.tomcat.util.net.Constants / Globals)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final MatchRevisionRegistry matchRevisionRegistry;
+
+    <T> ResponseEntity<T> respond(Long matchId, String ifNoneMatch, Supplier<ResponseEntity<T>> loader) {
+        Optional<String> etag = matchRevisionRegistry.etagOf(matchId);
+        if (etag.isEmpty()) return loader.get(); // 없는 경기 -> 원래 처리(404)에 맡김
+
+        if (matches(ifNoneMatch, etag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag.get())
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        }
+
+        ResponseEntity<T> response = loader.get();
+        if (!response.getStatusCode().is2xxSuccessful()) return response;
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .eTag(etag.get())
+                .cacheControl(CACHE_CONTROL)
+                .body(response.getBody());
+    }
+
+    /**
+     * 미리 만든 gzip 스냅샷을 응답으로 그대로 전송 (JSON 직렬화 없음)
+     * ETag는 gzip 표현 전용(-gz)이라 일반 JSON 응답의 ETag로는 304가 나지 않습니다.
+     * Tomcat sendfile을 쓸 수 있으면 커널이 파일 -> 소켓으로 바로 복사하고, 아니면 FileChannel.transferTo로 보냅니다.
+     */
+    void sendSnapshot(MatchSnapshotService.Snapshot snapshot, String ifNoneMatch,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, snapshot.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL.getHeaderValue());
+        if (matches(ifNoneMatch, snapshot.etag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.setContentLengthLong(snapshot.size());
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, snapshot.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, snapshot.size());
+            return;
+        }
+        try (FileChannel file = FileChannel.open(snapshot.path())) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < snapshot.size()) {
+                position += file.transferTo(position, snapshot.size() - position, out);
+            }
+        }
+    }
+
+    // If-None-Match: "a", "b" / * / W/"a" 형식 모두 처리 (약한 비교)
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag)) return true;
+        }
+        return false;
+    }
+}
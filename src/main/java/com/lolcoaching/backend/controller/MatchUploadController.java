@@ -1,16 +1,21 @@
 package com.lolcoaching.backend.controller;
 
+import com.lolcoaching.backend.Dto.MatchListCursor;
 import com.lolcoaching.backend.Dto.MatchListDto;
-import com.lolcoaching.backend.repository.GameMatchRepository;
+import com.lolcoaching.backend.Dto.MatchListPageDto;
+import com.lolcoaching.backend.service.ImportRejectedException;
 import com.lolcoaching.backend.service.MatchImportService;
+import com.lolcoaching.backend.service.MatchListService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/matches")
@@ -18,7 +23,7 @@ import java.util.stream.Collectors;
 public class MatchUploadController {
 
     private final MatchImportService matchImportService;
-    private final GameMatchRepository gameMatchRepository;
+    private final MatchListService matchListService;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<Long> uploadMatchData(
@@ -29,6 +34,11 @@ public class MatchUploadController {
             // 인자 2개를 넘기도록 수정
             Long matchId = matchImportService.importMatch(file, matchCode);
             return ResponseEntity.ok(matchId);
+        } catch (ImportRejectedException e) {
+            // 동시 임포트 수 초과 -> Retry-After 뒤에 다시 시도 (조회용 커넥션을 지키기 위해 바로 거절)
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .build();
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.internalServerError().build();
@@ -37,12 +47,27 @@ public class MatchUploadController {
 
     @GetMapping("/list")
     public ResponseEntity<List<MatchListDto>> getMatchList() {
-        // DB에서 모든 매치를 가져와서 DTO 리스트로 변환
-        List<MatchListDto> matches = gameMatchRepository.findAll().stream()
-                .map(m -> new MatchListDto(m.getId(), m.getMatchCode()))
-                .collect(Collectors.toList());
+        // 모든 매치 (id, 이름, 임포트 시각만 프로젝션으로 읽음 - 엔티티/연관관계 로딩 없음)
+        return ResponseEntity.ok(matchListService.getAll());
+    }
 
-        return ResponseEntity.ok(matches);
+    // 경기 목록 페이지 (keyset)
+    // 예: GET /api/matches/summaries?q=T1&sort=code&limit=50 -> 응답의 nextCursor를 cursor로 넘겨서 다음 페이지
+    @GetMapping("/summaries")
+    public ResponseEntity<MatchListPageDto> getMatchSummaries(
+            @RequestParam(required = false) String q,                       // 경기 이름 접두어
+            @RequestParam(defaultValue = "recent") String sort,             // recent(최근 임포트 순) | code(이름 순)
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            MatchListService.Sort order = MatchListService.Sort.valueOf(sort.toUpperCase(Locale.ROOT));
+            MatchListCursor after = cursor == null || cursor.isEmpty() ? null : MatchListCursor.decode(cursor);
+            return ResponseEntity.ok(matchListService.getPage(q, order, after, limit));
+        } catch (IllegalArgumentException e) {
+            // 모르는 sort 값 / 잘못된 커서
+            return ResponseEntity.badRequest().build();
+        }
     }
 
 
@@ -1,10 +1,12 @@
 package com.lolcoaching.backend.controller;
 
 import com.lolcoaching.backend.domain.NetworkMetric;
-import com.lolcoaching.backend.repository.NetworkMetricRepository;
 import com.lolcoaching.backend.repository.VoiceLogRepository;
+import com.lolcoaching.backend.service.MetricResolutions;
 import com.lolcoaching.backend.service.NetworkMetricService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -16,37 +18,52 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class NetworkMetricController {
 
-    private final NetworkMetricRepository networkMetricRepository;
 
     private final NetworkMetricService networkMetricService;
+    private final MatchHttpCache matchHttpCache;
+    private final MetricResolutions metricResolutions;
     // ★ 이 메서드가 없어서 프론트엔드가 데이터를 못 받고 있는 겁니다.
     @GetMapping("/{matchId}/metrics")
-    public List<NetworkMetric> getMetrics(
+    public ResponseEntity<List<NetworkMetric>> getMetrics(
             @PathVariable Long matchId,
             @RequestParam(defaultValue = "1") int sourceDa,
-            @RequestParam(defaultValue = "0") int targetDa
+            @RequestParam(defaultValue = "0") int targetDa,
+            @RequestParam(defaultValue = "10") String resolution, // 초("10", "30", "60") 또는 "phase"
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        // ★ 요청이 -1(전체)이면 DB를 거치지 않고 실시간 계산 결과를 줍니다.
-        if (sourceDa == -1 && targetDa == -1) {
-            // Service에 새로 만든 메서드 호출
-            return networkMetricService.getCalculatedAllMetrics(matchId);
+        int seconds;
+        try {
+            seconds = metricResolutions.parse(resolution);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         }
+        // ★ 경기 ETag가 그대로면 지표를 다시 읽지 않고 304
+        return matchHttpCache.respond(matchId, ifNoneMatch,
+                () -> ResponseEntity.ok(loadMetrics(matchId, sourceDa, targetDa, seconds)));
+    }
 
-        // 그 외(일반 패턴)는 DB에서 가져옵니다.
-        return networkMetricRepository.findByMatchIdAndSourceDaAndTargetDaOrderByTimeIndexAsc(matchId, sourceDa, targetDa);
+    private List<NetworkMetric> loadMetrics(Long matchId, int sourceDa, int targetDa, int resolution) {
+        // ★ 요청이 -1(전체)이면 실시간 계산 결과, 그 외(일반 패턴)는 DB에 저장된 값 (둘 다 서비스에서 캐시)
+        return networkMetricService.getMetricTimeline(matchId, sourceDa, targetDa, resolution);
     }
 
 
 
     // ★ [신규 추가] 특정 시간 범위의 정확한 누적 밀도 계산 API
     @GetMapping("/{matchId}/analysis")
-    public Map<String, Object> getRangeAnalysis(
+    public ResponseEntity<Map<String, Object>> getRangeAnalysis(
             @PathVariable Long matchId,
             @RequestParam(defaultValue = "0") Integer start, // int -> Integer 변경
             @RequestParam(defaultValue = "0") Integer end,   // int -> Integer 변경
             @RequestParam(defaultValue = "-1") Integer sourceDa,
-            @RequestParam(defaultValue = "-1") Integer targetDa
+            @RequestParam(defaultValue = "-1") Integer targetDa,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
+        return matchHttpCache.respond(matchId, ifNoneMatch,
+                () -> ResponseEntity.ok(analyzeRange(matchId, start, end, sourceDa, targetDa)));
+    }
+
+    private Map<String, Object> analyzeRange(Long matchId, Integer start, Integer end, Integer sourceDa, Integer targetDa) {
         // 1. 방어 로직: 이상한 값이 오면 0.0 리턴
         if (start == null || end == null || start >= end) {
             System.out.println("유효하지 않은 시간 범위 요청: " + start + " ~ " + end);
@@ -5,7 +5,9 @@ import lombok.Data; // @Getter, @Setter 포함
 
 @Entity
 @Data
-@Table(name = "game_event")
+@Table(name = "game_event", indexes = {
+        @Index(name = "idx_game_event_match_time", columnList = "match_id, event_time")
+})
 public class GameEvent {
 
     @Id
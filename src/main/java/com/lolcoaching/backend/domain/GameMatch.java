@@ -4,10 +4,20 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
 @Getter @Setter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_game_match_content_hash", columnNames = "content_hash")
+}, indexes = {
+        // 경기 목록 keyset 페이지: 최근 임포트 순 / 이름 접두어 검색
+        @Index(name = "idx_game_match_imported", columnList = "imported_at, id"),
+        @Index(name = "idx_game_match_code", columnList = "match_code, id")
+})
 public class GameMatch {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -17,6 +27,27 @@ public class GameMatch {
     // ★ [추가] 아까 빨간 줄 떴던 부분 해결을 위해 꼭 필요합니다!
     private Long duration;
 
+    // ★ [추가] 업로드된 경기 내용의 SHA-256 (같은 ZIP 재업로드 시 기존 매치를 찾는 용도, unique)
+    @JsonIgnore
+    @Column(length = 64)
+    private String contentHash;
+
+    // ★ [추가] 경기 데이터 리비전 - 임포트/지표 재계산 때마다 1씩 증가 (HTTP ETag 계산용, MatchRevisionRegistry)
+    @JsonIgnore
+    @Column(nullable = false)
+    private long revision;
+
+    // ★ [추가] 임포트 시각 (경기 목록 정렬용)
+    // 컬럼이 생기기 전 경기도 NOT NULL을 만족하도록 DB 기본값을 둠 (기존 DB 보강은 ImportedAtMigration)
+    @Column(nullable = false)
+    @ColumnDefault("CURRENT_TIMESTAMP(6)")
+    private LocalDateTime importedAt;
+
+    @PrePersist
+    void onPersist() {
+        if (importedAt == null) importedAt = LocalDateTime.now();
+    }
+
     // ==========================================
     // 양방향 관계에서 무한 루프를 방지하기 위한 설정
     // ==========================================
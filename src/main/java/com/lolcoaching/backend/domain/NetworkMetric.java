@@ -2,12 +2,14 @@ package com.lolcoaching.backend.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "network_metric", indexes = {
-        @Index(name = "idx_match_time", columnList = "match_id, time_index")
+        @Index(name = "idx_match_time", columnList = "match_id, time_index"),
+        @Index(name = "idx_metric_timeline", columnList = "match_id, resolution, source_da, target_da, time_index")
 })
 public class NetworkMetric {
 
@@ -17,9 +19,21 @@ public class NetworkMetric {
     @Column(nullable = false)
     private Long matchId;
 
+    // 해상도 (초, 0 = 게임 단계) - 기본 10초 외에 30/60초, 단계별 행도 같이 저장 (MetricResolutions)
+    // 해상도가 생기기 전에 저장된 행은 10초 행이므로 컬럼 기본값 10
+    @Column(nullable = false)
+    @ColumnDefault("10")
+    private int resolution;
+
+    // 해상도 안에서의 칸 번호 (10초면 timeIndex * 10초부터, 단계면 단계 번호)
     @Column(nullable = false)
     private int timeIndex;
 
+    // 칸 시작 시각 (초) - 차트 x축
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int startSec;
+
     @Column(nullable = false)
     private int sourceDa;
 
@@ -36,20 +50,36 @@ public class NetworkMetric {
     private double cod;
     private double cid;
 
-    @Column(columnDefinition = "TEXT")
-    private String positionDaCounts;
+    // 포지션별 Out Count (발신 횟수) -> 컬럼 out_top .. out_sup, 응답 JSON은 [TOP, JUG, MID, ADC, SUP] 배열
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "top", column = @Column(name = "out_top", nullable = false)),
+            @AttributeOverride(name = "jug", column = @Column(name = "out_jug", nullable = false)),
+            @AttributeOverride(name = "mid", column = @Column(name = "out_mid", nullable = false)),
+            @AttributeOverride(name = "adc", column = @Column(name = "out_adc", nullable = false)),
+            @AttributeOverride(name = "sup", column = @Column(name = "out_sup", nullable = false))
+    })
+    private PositionCounts positionDaCounts;
 
-    // ★ [추가] 포지션별 In Count (수신/응답 횟수)
-    // 저장 예시: "TOP:0,JUG:1,MID:5,ADC:2,SUP:0"
-    @Column(columnDefinition = "TEXT")
-    private String positionReceiveCounts;
+    // ★ [추가] 포지션별 In Count (수신/응답 횟수) -> 컬럼 in_top .. in_sup
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "top", column = @Column(name = "in_top", nullable = false)),
+            @AttributeOverride(name = "jug", column = @Column(name = "in_jug", nullable = false)),
+            @AttributeOverride(name = "mid", column = @Column(name = "in_mid", nullable = false)),
+            @AttributeOverride(name = "adc", column = @Column(name = "in_adc", nullable = false)),
+            @AttributeOverride(name = "sup", column = @Column(name = "in_sup", nullable = false))
+    })
+    private PositionCounts positionReceiveCounts;
 
     @Builder
-    public NetworkMetric(Long matchId, int timeIndex, int sourceDa, int targetDa,
+    public NetworkMetric(Long matchId, int resolution, int timeIndex, int startSec, int sourceDa, int targetDa,
                          int count, double density, double cod, double cid,
-                         String positionDaCounts, String positionReceiveCounts) { // 생성자 추가
+                         PositionCounts positionDaCounts, PositionCounts positionReceiveCounts) { // 생성자 추가
         this.matchId = matchId;
+        this.resolution = resolution;
         this.timeIndex = timeIndex;
+        this.startSec = startSec;
         this.sourceDa = sourceDa;
         this.targetDa = targetDa;
         this.count = count;
@@ -10,6 +10,9 @@ import lombok.*;
 @Builder            // 1. 빌더 패턴 사용
 @NoArgsConstructor  // 2. [필수] JPA가 빈 객체를 생성할 때 필요함 (이게 없어서 에러 남)
 @AllArgsConstructor
+@Table(name = "player", indexes = {
+        @Index(name = "idx_player_match_in_game", columnList = "match_id, in_game_id")
+})
 public class Player {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
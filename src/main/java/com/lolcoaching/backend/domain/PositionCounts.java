@@ -0,0 +1,51 @@
+package com.lolcoaching.backend.domain;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 포지션별 횟수 5개 (TOP, JUG, MID, ADC, SUP 순서)
+ *
+ * 예전에는 "TOP:1,JUG:0,..." 문자열(TEXT)로 저장해서 저장할 때 이어 붙이고 프론트에서 다시 파싱했습니다.
+ * 지금은 int 컬럼 5개에 나눠 저장하고, JSON으로는 [1, 0, 2, 0, 0] 배열로 나갑니다.
+ * 컬럼 이름은 NetworkMetric에서 발신(out_*) / 수신(in_*)으로 붙입니다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PositionCounts {
+
+    public static final int SIZE = 5;
+
+    // 예전 TEXT 컬럼만 있던 테이블에 ddl-auto로 컬럼이 추가될 때 기존 행이 NOT NULL에 걸리지 않도록 기본값 0
+    // (실제 값은 PositionCountsMigration이 옛 문자열에서 채워 넣음)
+    @Column(nullable = false) @ColumnDefault("0") private int top;
+    @Column(nullable = false) @ColumnDefault("0") private int jug;
+    @Column(nullable = false) @ColumnDefault("0") private int mid;
+    @Column(nullable = false) @ColumnDefault("0") private int adc;
+    @Column(nullable = false) @ColumnDefault("0") private int sup;
+
+    public PositionCounts(int top, int jug, int mid, int adc, int sup) {
+        this.top = top;
+        this.jug = jug;
+        this.mid = mid;
+        this.adc = adc;
+        this.sup = sup;
+    }
+
+    /** @param counts 포지션 순서대로 5개 */
+    public static PositionCounts of(int[] counts) {
+        if (counts.length != SIZE) throw new IllegalArgumentException("포지션 수가 5개가 아님: " + counts.length);
+        return new PositionCounts(counts[0], counts[1], counts[2], counts[3], counts[4]);
+    }
+
+    @JsonValue
+    public int[] toArray() {
+        return new int[]{top, jug, mid, adc, sup};
+    }
+}
@@ -9,6 +9,10 @@ import lombok.*;
 @Builder // ★ 이 줄이 꼭 있어야 .builder()를 쓸 수 있습니다!
 @NoArgsConstructor // JPA는 기본 생성자가 필수입니다.
 @AllArgsConstructor // Builder 패턴은 전체 생성자가 필요합니다.
+// ★ 경기 상세/분석은 항상 "이 경기의 로그를 시간순으로" 읽으므로 (match_id, start_time) 복합 인덱스
+@Table(name = "voice_log", indexes = {
+        @Index(name = "idx_voice_log_match_start", columnList = "match_id, start_time")
+})
 public class VoiceLog {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -0,0 +1,42 @@
+package com.lolcoaching.backend.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 엔티티를 chunkSize 개씩 모았다가 sink로 넘기는 버퍼.
+ * 임포트 중 힙에 남는 엔티티 수가 경기 길이가 아니라 chunkSize에 의해 결정되도록 합니다.
+ */
+public class ChunkBuffer<T> {
+
+    private final int chunkSize;
+    private final Consumer<List<T>> sink;
+    private final List<T> buffer;
+    private int total;
+
+    public ChunkBuffer(int chunkSize, Consumer<List<T>> sink) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        this.chunkSize = chunkSize;
+        this.sink = sink;
+        this.buffer = new ArrayList<>(chunkSize);
+    }
+
+    public void add(T item) {
+        buffer.add(item);
+        total++;
+        if (buffer.size() >= chunkSize) flush();
+    }
+
+    /** 남아있는 엔티티를 모두 내보냅니다. (마지막에 꼭 호출) */
+    public void flush() {
+        if (buffer.isEmpty()) return;
+        sink.accept(buffer);
+        buffer.clear();
+    }
+
+    /** 지금까지 add된 전체 개수 */
+    public int getTotal() {
+        return total;
+    }
+}
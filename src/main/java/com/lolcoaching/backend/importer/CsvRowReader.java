@@ -0,0 +1,120 @@
+package com.lolcoaching.backend.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+/**
+ * CSV를 한 행씩 읽어서 String[]으로 돌려주는 리더.
+ *
+ * 예전에는 줄마다 정규식(,(?=(?:[^"]*"[^"]*")*[^"]*$))으로 split 했는데,
+ * 따옴표 개수에 대해 제곱으로 느려지고 임시 객체도 많이 만들었습니다.
+ * 지금은 문자 버퍼를 한 번만 훑는 상태 머신으로 필드를 자르고, 필드용 버퍼는 행마다 재사용합니다.
+ *
+ * - 따옴표로 감싼 필드 안의 쉼표/줄바꿈 지원, "" 는 " 로 해석 (따옴표 자체는 값에서 제거됨)
+ * - 파일 맨 앞의 UTF-8 BOM 제거 (event.csv, info.csv)
+ * - LF / CRLF 모두 지원
+ * - 첫 줄(헤더)은 생성 시점에 건너뜁니다.
+ */
+public class CsvRowReader implements Closeable {
+
+    private static final char BOM = '\uFEFF';
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final char[] buf = new char[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+
+    // 행마다 새로 만들지 않고 재사용하는 버퍼
+    private final StringBuilder field = new StringBuilder(64);
+    private final ArrayList<String> fields = new ArrayList<>(16);
+
+    public CsvRowReader(InputStream in) throws IOException {
+        this(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    public CsvRowReader(Reader reader) throws IOException {
+        this.reader = reader;
+        if (fill() && buf[pos] == BOM) pos++;
+        next(); // 헤더 스킵
+    }
+
+    /** 다음 행을 반환합니다. 파일 끝이면 null */
+    public String[] next() throws IOException {
+        if (pos >= limit && !fill()) return null;
+
+        fields.clear();
+        field.setLength(0);
+        boolean inQuotes = false;
+        boolean quoted = false; // 현재 필드가 따옴표로 시작했는지
+
+        while (true) {
+            if (pos >= limit && !fill()) {
+                endField();
+                break;
+            }
+            char c = buf[pos++];
+
+            if (inQuotes) {
+                if (c == '"') {
+                    if (peek() == '"') {
+                        field.append('"'); // "" -> "
+                        pos++;
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == ',') {
+                endField();
+                quoted = false;
+            } else if (c == '\n') {
+                endField();
+                break;
+            } else if (c == '\r') {
+                if (peek() == '\n') pos++;
+                endField();
+                break;
+            } else if (c == '"' && !quoted && field.length() == 0) {
+                inQuotes = true;
+                quoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+        return fields.toArray(new String[0]);
+    }
+
+    private void endField() {
+        fields.add(field.toString());
+        field.setLength(0);
+    }
+
+    // 다음 문자를 소비하지 않고 확인 (파일 끝이면 -1)
+    private int peek() throws IOException {
+        if (pos >= limit && !fill()) return -1;
+        return buf[pos];
+    }
+
+    private boolean fill() throws IOException {
+        int n = reader.read(buf, 0, buf.length);
+        if (n <= 0) {
+            pos = limit = 0;
+            return false;
+        }
+        pos = 0;
+        limit = n;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
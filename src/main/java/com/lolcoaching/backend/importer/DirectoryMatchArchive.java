@@ -0,0 +1,55 @@
+package com.lolcoaching.backend.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 압축을 풀어둔 경기 폴더 (예: 서버의 data/ 폴더).
+ * ZIP과 같은 파일명 규칙(MatchFile)으로 파일을 찾으므로 ZIP 업로드와 똑같은 파서를 탑니다.
+ */
+public class DirectoryMatchArchive implements MatchArchive {
+
+    private final Map<MatchFile, Path> files = new EnumMap<>(MatchFile.class);
+    private final Path metaFile;
+
+    public DirectoryMatchArchive(Path dir) throws IOException {
+        try (Stream<Path> list = Files.list(dir)) {
+            list.filter(Files::isRegularFile)
+                    .sorted()
+                    .forEach(file -> {
+                        MatchFile role = MatchFile.fromFileName(file.getFileName().toString());
+                        if (role != null) files.putIfAbsent(role, file);
+                    });
+        }
+        this.metaFile = files.get(MatchFile.META);
+    }
+
+    /** 폴더 안에 경기 메타데이터(match_xxx.txt)가 있는지 = 경기 폴더인지 */
+    public static boolean isMatchDirectory(Path dir) throws IOException {
+        try (Stream<Path> list = Files.list(dir)) {
+            return list.anyMatch(file -> Files.isRegularFile(file)
+                    && MatchFile.fromFileName(file.getFileName().toString()) == MatchFile.META);
+        }
+    }
+
+    /** 메타데이터 파일 이름 (기본 매치 이름으로 사용) */
+    public String getMetaFileName() {
+        return metaFile != null ? metaFile.getFileName().toString() : null;
+    }
+
+    @Override
+    public boolean has(MatchFile file) {
+        return files.containsKey(file);
+    }
+
+    @Override
+    public InputStream open(MatchFile file) throws IOException {
+        Path path = files.get(file);
+        return path == null ? null : Files.newInputStream(path);
+    }
+}
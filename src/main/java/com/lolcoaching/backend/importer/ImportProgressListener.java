@@ -0,0 +1,18 @@
+package com.lolcoaching.backend.importer;
+
+/**
+ * importMatch 진행 상황을 받아보는 콜백. (비동기 임포트 작업의 상태 표시용)
+ * 임포트를 실행하는 스레드에서 호출되므로 구현체는 빨리 리턴해야 합니다.
+ */
+public interface ImportProgressListener {
+
+    ImportProgressListener NONE = new ImportProgressListener() {};
+
+    /** 다음 단계로 넘어갈 때 호출 */
+    default void onStage(ImportStage stage) {
+    }
+
+    /** 청크 하나(로그/이벤트)가 DB에 저장될 때마다 호출 */
+    default void onRowsPersisted(int rows) {
+    }
+}
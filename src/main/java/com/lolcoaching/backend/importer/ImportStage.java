@@ -0,0 +1,13 @@
+package com.lolcoaching.backend.importer;
+
+/**
+ * 임포트 진행 단계 (작업 상태 조회 API에 그대로 노출됨)
+ */
+public enum ImportStage {
+    QUEUED,   // 대기열에서 실행 대기 중
+    UNZIP,    // ZIP 열기 + 메타데이터 읽기
+    PERSIST,  // Player / VoiceLog / GameEvent 저장
+    ANALYZE,  // NetworkMetric 계산 및 저장
+    DONE,     // 완료
+    FAILED    // 실패
+}
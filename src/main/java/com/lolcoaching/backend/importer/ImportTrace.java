@@ -0,0 +1,77 @@
+package com.lolcoaching.backend.importer;
+
+import lombok.Getter;
+
+/**
+ * 임포트 한 건의 단계별 소요 시간 / 처리량 기록 (ImportMetrics가 Micrometer로 내보내고 요약 로그를 남김)
+ *
+ * 임포트는 한 스레드에서 순서대로 진행되므로 동기화하지 않습니다.
+ */
+@Getter
+public class ImportTrace {
+
+    /** 측정 단계 (metric 태그 stage 값은 소문자 이름) */
+    public enum Phase {
+        HASH,             // 중복 확인용 content hash 계산 (전체 파일 1회 읽기)
+        UNZIP,            // 저장 중 원본 스트림 읽기 (압축 해제 + 디스크 I/O)
+        PARSE,            // CSV 파싱 + 엔티티 생성 (저장 구간에서 다른 단계를 뺀 나머지)
+        PLAYER_INSERT,
+        VOICE_LOG_FLUSH,
+        EVENT_FLUSH,
+        ANALYZE;          // NetworkMetricService.analyzeAndSaveMetrics
+
+        public String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final long startNanos = System.nanoTime();
+    private final long[] phaseNanos = new long[Phase.values().length];
+
+    private long bytesRead;       // 저장 구간에서 읽은 원본 크기 (다시 읽은 파일은 한 번만 셈)
+    private long hashBytesRead;   // content hash 계산으로 읽은 바이트
+    private int players;
+    private long voiceLogs;
+    private long gameEvents;
+    private int unmatchedVoiceRows;
+
+    public void add(Phase phase, long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    public long nanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public long totalRows() {
+        return players + voiceLogs + gameEvents;
+    }
+
+    public void setBytesRead(long bytesRead) {
+        this.bytesRead = bytesRead;
+    }
+
+    public void setHashBytesRead(long hashBytesRead) {
+        this.hashBytesRead = hashBytesRead;
+    }
+
+    public void setUnmatchedVoiceRows(int unmatchedVoiceRows) {
+        this.unmatchedVoiceRows = unmatchedVoiceRows;
+    }
+
+    public void addPlayers(int count) {
+        players += count;
+    }
+
+    public void addVoiceLogs(int count) {
+        voiceLogs += count;
+    }
+
+    public void addGameEvents(int count) {
+        gameEvents += count;
+    }
+}
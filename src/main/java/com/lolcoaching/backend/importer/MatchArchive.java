@@ -0,0 +1,60 @@
+package com.lolcoaching.backend.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 한 경기 분량의 원본 파일 묶음(ZIP 등)에 대한 읽기 전용 뷰.
+ * 파일을 역할(MatchFile) 단위로 꺼낼 수 있어서, 저장 순서(Player -> Log -> Event)에 맞춰
+ * 필요한 파일만 그때그때 스트림으로 읽을 수 있습니다.
+ */
+public interface MatchArchive extends Closeable {
+
+    /** 해당 역할의 파일이 있는지 여부 */
+    boolean has(MatchFile file);
+
+    /** 해당 역할의 파일을 새 스트림으로 엽니다. (없으면 null, 호출한 쪽에서 닫아야 함) */
+    InputStream open(MatchFile file) throws IOException;
+
+    /**
+     * 경기 내용 해시 (SHA-256, hex).
+     * ZIP 파일 자체가 아니라 역할별 파일 내용을 정해진 순서로 이어서 계산하므로,
+     * 같은 경기를 다른 압축 프로그램으로 다시 묶어도(엔트리 순서/시간/압축률이 달라도) 같은 값이 나옵니다.
+     */
+    default String contentHash() throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] buffer = new byte[8192];
+        for (MatchFile file : MatchFile.values()) {
+            if (!has(file)) continue;
+            digest.update(file.name().getBytes(StandardCharsets.UTF_8));
+
+            long length = 0;
+            try (InputStream in = open(file)) {
+                int n;
+                while ((n = in.read(buffer)) > 0) {
+                    digest.update(buffer, 0, n);
+                    length += n;
+                }
+            }
+            // 파일 경계가 섞이지 않도록 길이도 같이 넣음
+            digest.update(ByteBuffer.allocate(Long.BYTES).putLong(length).array());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @Override
+    default void close() throws IOException {
+    }
+}
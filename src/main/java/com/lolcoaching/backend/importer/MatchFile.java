@@ -0,0 +1,27 @@
+package com.lolcoaching.backend.importer;
+
+/**
+ * 경기 ZIP 안에 들어있는 파일 종류.
+ * 파일명 매칭 규칙은 기존 importMatch의 if/else 순서를 그대로 따릅니다.
+ */
+public enum MatchFile {
+    META,       // match_xxx.txt
+    INFO,       // info.csv (플레이어)
+    DA,         // da_result.csv (발화 + 화행)
+    KOR,        // asr_result_kor.csv (한글 텍스트)
+    EVENT,      // event.csv
+    GAME_TIME;  // game_time.csv
+
+    /** 파일명(소문자)으로 역할을 판별합니다. 해당 없으면 null */
+    public static MatchFile fromFileName(String name) {
+        String fileName = name.toLowerCase();
+
+        if (fileName.endsWith(".txt") && fileName.contains("match_")) return META;
+        if (fileName.contains("info.csv")) return INFO;
+        if (fileName.contains("da_result.csv")) return DA;
+        if (fileName.contains("asr_result_kor.csv")) return KOR;
+        if (fileName.contains("event.csv")) return EVENT;
+        if (fileName.contains("game_time.csv")) return GAME_TIME;
+        return null;
+    }
+}
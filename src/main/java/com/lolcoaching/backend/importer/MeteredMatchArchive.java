@@ -0,0 +1,90 @@
+package com.lolcoaching.backend.importer;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 다른 MatchArchive를 감싸서 읽은 바이트 수와 read()에 걸린 시간(압축 해제 + I/O)을 누적합니다.
+ * 감싼 원본의 수명은 호출한 쪽이 관리하므로 close()는 원본을 닫지 않습니다.
+ *
+ * 같은 파일을 여러 번 열어 읽는 경우(da/kor 시간 범위 선행 스캔 등)가 있어서
+ * 전체 읽은 양(getBytesRead)과 파일별로 한 번씩만 센 양(getDistinctBytesRead)을 따로 셉니다.
+ */
+public class MeteredMatchArchive implements MatchArchive {
+
+    private final MatchArchive delegate;
+    private final Map<MatchFile, Long> largestReadPerFile = new EnumMap<>(MatchFile.class);
+    private long bytesRead;
+    private long readNanos;
+
+    public MeteredMatchArchive(MatchArchive delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean has(MatchFile file) {
+        return delegate.has(file);
+    }
+
+    @Override
+    public InputStream open(MatchFile file) throws IOException {
+        long start = System.nanoTime();
+        InputStream in = delegate.open(file);
+        readNanos += System.nanoTime() - start;
+        return in == null ? null : new MeteredInputStream(file, in);
+    }
+
+    /** 모든 스트림에서 읽은 바이트 합 (같은 파일을 다시 읽은 양 포함) */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /** 파일마다 가장 많이 읽은 스트림 하나만 센 바이트 합 (= 원본 데이터를 한 번 훑은 양) */
+    public long getDistinctBytesRead() {
+        long sum = 0;
+        for (long bytes : largestReadPerFile.values()) sum += bytes;
+        return sum;
+    }
+
+    public long getReadNanos() {
+        return readNanos;
+    }
+
+    private class MeteredInputStream extends FilterInputStream {
+
+        private final MatchFile file;
+        private long streamBytes;
+
+        MeteredInputStream(MatchFile file, InputStream in) {
+            super(in);
+            this.file = file;
+        }
+
+        @Override
+        public int read() throws IOException {
+            long start = System.nanoTime();
+            int b = super.read();
+            readNanos += System.nanoTime() - start;
+            if (b >= 0) count(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            long start = System.nanoTime();
+            int n = super.read(b, off, len);
+            readNanos += System.nanoTime() - start;
+            if (n > 0) count(n);
+            return n;
+        }
+
+        private void count(int n) {
+            bytesRead += n;
+            streamBytes += n;
+            largestReadPerFile.merge(file, streamBytes, Math::max);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.lolcoaching.backend.importer;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * da_result.csv와 asr_result_kor.csv를 (speaker, start, end) 키로 맞춰서 짝지어주는 스트리밍 merge-join.
+ *
+ * 예전에는 i번째 행끼리 짝지어서, 한쪽에 한 줄만 빠져도 그 뒤의 모든 발화가 한 칸씩 밀렸습니다.
+ * 두 파일 모두 start 오름차순이라는 점을 이용해, kor 쪽은 현재 da 행의 start까지만 미리 읽어두고(lookahead)
+ * 그 안에서 같은 키를 찾습니다. 그래서 메모리에는 같은 시각 근처의 몇 줄만 남습니다.
+ *
+ * - 시간은 ms 단위로 반올림해서 비교 (두 파일에 510560.0 / 510559.99999999994 처럼 부동소수 오차가 있음)
+ * - 짝이 없는 행은 건너뛰고 개수만 Result로 알려줌
+ */
+public class VoiceRowJoiner {
+
+    public static final int DEFAULT_MAX_LOOKAHEAD = 64;
+
+    @FunctionalInterface
+    public interface Handler {
+        /** index = da_result.csv 기준 행 번호(0부터) */
+        void handle(int index, String[] daRow, String[] korRow);
+    }
+
+    public record Result(int matched, int unmatchedDa, int unmatchedKor) {
+        public int unmatched() {
+            return unmatchedDa + unmatchedKor;
+        }
+    }
+
+    private final CsvRowReader daReader;
+    private final CsvRowReader korReader;
+    private final int maxLookahead;
+
+    // kor 쪽 lookahead 버퍼 (start 오름차순)
+    private final ArrayDeque<KeyedRow> window = new ArrayDeque<>();
+    private KeyedRow nextKor;
+
+    private int matched;
+    private int unmatchedDa;
+    private int unmatchedKor;
+
+    public VoiceRowJoiner(CsvRowReader daReader, CsvRowReader korReader, int maxLookahead) {
+        this.daReader = daReader;
+        this.korReader = korReader;
+        this.maxLookahead = maxLookahead;
+    }
+
+    public Result join(Handler handler) throws IOException {
+        nextKor = readKor();
+
+        String[] daRow;
+        int index = 0;
+        while ((daRow = daReader.next()) != null) {
+            int rowIndex = index++;
+            Key key = Key.of(daRow);
+            if (key == null) {
+                unmatchedDa++;
+                continue;
+            }
+
+            // 현재 da보다 먼저 시작한 kor 행은 앞으로도 짝이 나올 수 없음
+            while (!window.isEmpty() && window.peekFirst().key.start < key.start) {
+                window.pollFirst();
+                unmatchedKor++;
+            }
+
+            // kor를 현재 da의 start까지 미리 읽어둠
+            while (nextKor != null && nextKor.key.start <= key.start) {
+                if (nextKor.key.start < key.start) {
+                    unmatchedKor++;
+                } else {
+                    window.addLast(nextKor);
+                    if (window.size() > maxLookahead) { // 정렬이 깨진 파일 대비 상한
+                        window.pollFirst();
+                        unmatchedKor++;
+                    }
+                }
+                nextKor = readKor();
+            }
+
+            KeyedRow korRow = take(key);
+            if (korRow != null) {
+                matched++;
+                handler.handle(rowIndex, daRow, korRow.row);
+            } else {
+                unmatchedDa++;
+            }
+        }
+
+        unmatchedKor += window.size();
+        window.clear();
+        while (nextKor != null) {
+            unmatchedKor++;
+            nextKor = readKor();
+        }
+        return new Result(matched, unmatchedDa, unmatchedKor);
+    }
+
+    private KeyedRow take(Key key) {
+        for (Iterator<KeyedRow> it = window.iterator(); it.hasNext(); ) {
+            KeyedRow candidate = it.next();
+            if (candidate.key.equals(key)) {
+                it.remove();
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    // 키를 만들 수 없는(컬럼 부족, 숫자 아님) 행은 짝 없는 행으로 세고 건너뜀
+    private KeyedRow readKor() throws IOException {
+        String[] row;
+        while ((row = korReader.next()) != null) {
+            Key key = Key.of(row);
+            if (key != null) return new KeyedRow(key, row);
+            unmatchedKor++;
+        }
+        return null;
+    }
+
+    private record KeyedRow(Key key, String[] row) {
+    }
+
+    // [0]speaker, [2]start, [3]end
+    private record Key(String speaker, long start, long end) {
+        static Key of(String[] row) {
+            if (row.length < 4) return null;
+            try {
+                return new Key(row[0].trim(),
+                        Math.round(Double.parseDouble(row[2].trim())),
+                        Math.round(Double.parseDouble(row[3].trim())));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.lolcoaching.backend.importer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * 디스크에 있는 경기 ZIP 파일.
+ * ZipInputStream과 달리 엔트리를 원하는 순서로(필요하면 여러 번) 열 수 있어서
+ * 파일 전체를 메모리에 올리지 않고도 Player -> Log -> Event 순서로 처리할 수 있습니다.
+ *
+ * 같은 역할의 CSV가 여러 개면 기존 동작처럼 ZIP 안 순서대로 이어 붙입니다. (두 번째 파일부터 헤더 줄 제외)
+ * 메타데이터(match_xxx.txt)는 기존처럼 마지막 파일 값이 남습니다.
+ */
+public class ZipMatchArchive implements MatchArchive {
+
+    private final ZipFile zipFile;
+    private final Map<MatchFile, List<ZipEntry>> entries = new EnumMap<>(MatchFile.class);
+
+    public ZipMatchArchive(File file) throws IOException {
+        this.zipFile = new ZipFile(file, StandardCharsets.UTF_8);
+
+        Enumeration<? extends ZipEntry> all = zipFile.entries();
+        while (all.hasMoreElements()) {
+            ZipEntry entry = all.nextElement();
+            if (entry.isDirectory()) continue;
+
+            MatchFile role = MatchFile.fromFileName(entry.getName());
+            if (role == null) continue;
+            List<ZipEntry> list = entries.computeIfAbsent(role, r -> new ArrayList<>());
+            if (role == MatchFile.META) list.clear(); // 메타데이터는 마지막 파일 우선
+            list.add(entry);
+        }
+    }
+
+    @Override
+    public boolean has(MatchFile file) {
+        return entries.containsKey(file);
+    }
+
+    @Override
+    public InputStream open(MatchFile file) throws IOException {
+        List<ZipEntry> list = entries.get(file);
+        if (list == null) return null;
+        if (list.size() == 1) return zipFile.getInputStream(list.get(0));
+        return new ConcatenatedCsv(list);
+    }
+
+    @Override
+    public void close() throws IOException {
+        zipFile.close();
+    }
+
+    /**
+     * 같은 역할의 CSV 엔트리들을 한 파일처럼 읽는 스트림.
+     * 두 번째 엔트리부터는 헤더 줄(BOM 포함)을 건너뛰고, 앞 파일이 줄바꿈 없이 끝났으면 줄바꿈을 넣어줍니다.
+     */
+    private class ConcatenatedCsv extends InputStream {
+
+        private final List<ZipEntry> parts;
+        private int index = -1;
+        private InputStream current;
+        private int last = '\n';       // 마지막으로 내보낸 바이트
+        private boolean pendingNewline;
+
+        ConcatenatedCsv(List<ZipEntry> parts) {
+            this.parts = parts;
+        }
+
+        @Override
+        public int read() throws IOException {
+            while (true) {
+                if (pendingNewline) {
+                    pendingNewline = false;
+                    return last = '\n';
+                }
+                if (current == null) {
+                    if (!nextPart()) return -1;
+                    continue; // 경계 줄바꿈부터
+                }
+
+                int b = current.read();
+                if (b >= 0) return last = b;
+                current.close();
+                current = null;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) return 0;
+            int n = 0;
+            while (n < len) {
+                // 엔트리 안쪽은 덩어리로 읽음 (경계 처리만 한 바이트씩)
+                if (current != null && !pendingNewline) {
+                    int r = current.read(b, off + n, len - n);
+                    if (r > 0) {
+                        n += r;
+                        last = b[off + n - 1];
+                        continue;
+                    }
+                }
+                int c = read();
+                if (c < 0) break;
+                b[off + n++] = (byte) c;
+            }
+            return n == 0 ? -1 : n;
+        }
+
+        private boolean nextPart() throws IOException {
+            if (++index >= parts.size()) return false;
+            current = zipFile.getInputStream(parts.get(index));
+            if (index > 0) {
+                int c;
+                while ((c = current.read()) >= 0 && c != '\n') {
+                    // 헤더 줄 건너뛰기
+                }
+                if (last != '\n' && last != '\r') pendingNewline = true;
+            }
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (current != null) current.close();
+        }
+    }
+}
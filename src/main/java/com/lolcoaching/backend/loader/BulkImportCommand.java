@@ -0,0 +1,56 @@
+package com.lolcoaching.backend.loader;
+
+import com.lolcoaching.backend.Dto.BulkImportReportDto;
+import com.lolcoaching.backend.service.BulkImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 커맨드라인 일괄 임포트.
+ *
+ * 사용 예 (서버를 띄우지 않고 임포트만 하고 종료):
+ *   java -jar backend.jar --bulk-import=/data/lck-2025-day3 --spring.main.web-application-type=none
+ *
+ * 경로가 폴더면 안의 *.zip 전부, ZIP 파일이면 그 안의 경기 ZIP 전부를 임포트하고 요약을 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkImportCommand implements ApplicationRunner {
+
+    static final String OPTION = "bulk-import";
+
+    private final BulkImportService bulkImportService;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        List<String> paths = args.getOptionValues(OPTION);
+        if (paths == null) return;
+
+        for (String value : paths) {
+            Path source = Path.of(value);
+            if (!Files.exists(source)) {
+                log.error("bulk import source not found: {}", source);
+                continue;
+            }
+
+            BulkImportReportDto report = bulkImportService.importPath(source);
+            log.info("[bulk-import] {} -> total={}, succeeded={}, failed={}, elapsedMs={}",
+                    source, report.getTotal(), report.getSucceeded(), report.getFailed(), report.getElapsedMs());
+            for (BulkImportReportDto.MatchResult result : report.getResults()) {
+                if (result.isSuccess()) {
+                    log.info("[bulk-import]   OK   {} -> matchId={} ({} ms)", result.getSource(), result.getMatchId(), result.getElapsedMs());
+                } else {
+                    log.warn("[bulk-import]   FAIL {} -> {}", result.getSource(), result.getError());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.lolcoaching.backend.loader;
+
+import com.lolcoaching.backend.importer.DirectoryMatchArchive;
+import com.lolcoaching.backend.importer.MatchArchive;
+import com.lolcoaching.backend.importer.ZipMatchArchive;
+import com.lolcoaching.backend.service.MatchImportService;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 서버 시작 시 data/ 폴더의 경기 데이터를 DB에 넣어주는 시드 로더.
+ *
+ * 예전에는 CommandLineRunner로 시작 과정 안에서 동기로 돌아서, 시드가 많으면 서버가 뜨는 게 그만큼 늦었습니다.
+ * 지금은 서버가 요청을 받을 준비가 된 뒤(ApplicationReadyEvent) 백그라운드 스레드에서 돌고,
+ * 진행 상황은 SeedDataHealthIndicator(/actuator/health/readiness)로 확인합니다.
+ *
+ * - 경기 하나 = data/ 자체(match_xxx.txt가 있으면), data/ 아래의 경기 폴더, 또는 data/ 아래의 *.zip
+ * - 파싱/저장은 ZIP 업로드와 같은 MatchImportService.importMatch를 그대로 사용
+ * - 이미 들어간 경기는 content hash로 걸러지므로 재시작해도 중복 저장되지 않음
+ */
+@Slf4j
+@Component
+public class CsvDataLoader {
+
+    public enum State { DISABLED, PENDING, RUNNING, DONE, FAILED }
+
+    private final MatchImportService matchImportService;
+    private final boolean enabled;
+    private final Path seedDir;
+
+    @Getter private volatile State state;
+    @Getter private volatile int total;
+    @Getter private volatile int imported;
+    @Getter private volatile int failed;
+    @Getter private volatile String error;
+
+    public CsvDataLoader(MatchImportService matchImportService,
+                         @Value("${seed.enabled:true}") boolean enabled,
+                         @Value("${seed.dir:data}") String seedDir) {
+        this.matchImportService = matchImportService;
+        this.enabled = enabled;
+        this.seedDir = Path.of(seedDir);
+        this.state = enabled ? State.PENDING : State.DISABLED;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSeeding() {
+        if (!enabled) return;
+
+        Thread worker = new Thread(this::run, "seed-data-loader");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void run() {
+        state = State.RUNNING;
+        log.info("========== 데이터 로딩 시작 ({}) ==========", seedDir.toAbsolutePath());
+        try {
+            if (!Files.isDirectory(seedDir)) {
+                log.info("!! {} 폴더가 없습니다. 생략합니다.", seedDir);
+                state = State.DONE;
+                return;
+            }
+
+            List<Path> sources = findMatchSources(seedDir);
+            total = sources.size();
+
+            for (Path source : sources) {
+                try (MatchArchive archive = open(source)) {
+                    Long matchId = matchImportService.importMatch(archive, matchCodeOf(source, archive));
+                    imported++;
+                    log.info(">> 시드 경기 로딩 완료: {} -> matchId={}", source.getFileName(), matchId);
+                } catch (Exception e) {
+                    failed++;
+                    log.warn("!! 시드 경기 로딩 실패: {}", source, e);
+                }
+            }
+
+            state = State.DONE;
+            log.info("========== 데이터 로딩 종료 (성공 {}, 실패 {}) ==========", imported, failed);
+        } catch (Exception e) {
+            error = e.getMessage();
+            state = State.FAILED;
+            log.error("!! 데이터 로딩 중단", e);
+        }
+    }
+
+    // data/ 자체, 하위 경기 폴더, *.zip 순서로 경기 후보를 모음
+    private List<Path> findMatchSources(Path dir) throws IOException {
+        List<Path> sources = new ArrayList<>();
+        if (DirectoryMatchArchive.isMatchDirectory(dir)) sources.add(dir);
+
+        try (Stream<Path> children = Files.list(dir)) {
+            for (Path child : children.sorted().toList()) {
+                if (Files.isDirectory(child) && DirectoryMatchArchive.isMatchDirectory(child)) {
+                    sources.add(child);
+                } else if (Files.isRegularFile(child) && child.getFileName().toString().toLowerCase().endsWith(".zip")) {
+                    sources.add(child);
+                }
+            }
+        }
+        return sources;
+    }
+
+    private MatchArchive open(Path source) throws IOException {
+        if (Files.isDirectory(source)) return new DirectoryMatchArchive(source);
+        return new ZipMatchArchive(source.toFile());
+    }
+
+    // 폴더는 메타데이터 파일명(기존 동작), ZIP은 파일명을 매치 이름으로 사용
+    private String matchCodeOf(Path source, MatchArchive archive) {
+        if (archive instanceof DirectoryMatchArchive directory && directory.getMetaFileName() != null) {
+            return directory.getMetaFileName();
+        }
+        String name = source.getFileName().toString();
+        return name.toLowerCase().endsWith(".zip") ? name.substring(0, name.length() - 4) : name;
+    }
+}
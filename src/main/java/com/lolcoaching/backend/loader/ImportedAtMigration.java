@@ -0,0 +1,79 @@
+package com.lolcoaching.backend.loader;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+/**
+ * game_match.imported_at (경기 목록 최근순 정렬) 컬럼이 없는 예전 DB 보강
+ *
+ * 운영 DB는 ddl-auto를 쓰지 않으므로 컬럼이 없으면 목록 조회/임포트가 모두 실패합니다.
+ *  - 컬럼이 없으면 NOT NULL + DEFAULT CURRENT_TIMESTAMP(6)로 추가 -> 기존 경기는 모두 이전한 시각으로 채워짐
+ *    (같은 시각끼리는 id 역순으로 정렬되므로 예전 경기도 임포트 순서대로 나옴)
+ *  - 목록 keyset 페이지용 인덱스(imported_at, id)도 없으면 만듦
+ *
+ * 컬럼과 인덱스가 이미 있으면(새 DB, ddl-auto 환경, 이미 보강 완료) 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ImportedAtMigration {
+
+    static final String TABLE = "game_match";
+    static final String COLUMN = "imported_at";
+    static final String INDEX = "idx_game_match_imported";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory: ddl-auto를 쓰는 환경에서는 스키마 갱신이 끝난 뒤에 확인하도록 의존성만 걸어둠
+    public ImportedAtMigration(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @PostConstruct
+    void migrate() {
+        if (!hasColumn()) {
+            log.info("game_match.imported_at 컬럼 추가 (기존 경기는 현재 시각으로 채움)");
+            jdbcTemplate.execute("alter table " + TABLE + " add column " + COLUMN
+                    + " datetime(6) default current_timestamp(6) not null");
+        }
+        if (!hasIndex()) {
+            jdbcTemplate.execute("create index " + INDEX + " on " + TABLE + " (" + COLUMN + ", id)");
+        }
+    }
+
+    private boolean hasColumn() {
+        Boolean found = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData meta = connection.getMetaData();
+            // MySQL은 소문자, H2는 대문자로 저장된 이름
+            for (String[] names : new String[][]{{TABLE, COLUMN}, {TABLE.toUpperCase(), COLUMN.toUpperCase()}}) {
+                try (ResultSet rs = meta.getColumns(connection.getCatalog(), null, names[0], names[1])) {
+                    if (rs.next()) return true;
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(found);
+    }
+
+    private boolean hasIndex() {
+        Boolean found = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData meta = connection.getMetaData();
+            for (String table : new String[]{TABLE, TABLE.toUpperCase()}) {
+                try (ResultSet rs = meta.getIndexInfo(connection.getCatalog(), null, table, false, false)) {
+                    while (rs.next()) {
+                        if (INDEX.equalsIgnoreCase(rs.getString("INDEX_NAME"))) return true;
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(found);
+    }
+}
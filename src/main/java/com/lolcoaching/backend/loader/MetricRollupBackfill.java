@@ -0,0 +1,73 @@
+package com.lolcoaching.backend.loader;
+
+import com.lolcoaching.backend.repository.NetworkMetricRepository;
+import com.lolcoaching.backend.service.MetricResolutions;
+import com.lolcoaching.backend.service.NetworkMetricService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 해상도별 지표(30초/60초/게임 단계 등)가 없는 경기의 지표를 다시 계산하는 로더.
+ *
+ * 해상도 행이 생기기 전에 저장된 경기, 또는 metrics.rollup.* 설정이 바뀐 뒤의 예전 경기가 대상입니다.
+ * 새 임포트는 analyzeAndSaveMetrics에서 모든 해상도를 같이 저장하므로 해당 없음.
+ * 시드 로더처럼 서버가 요청을 받을 준비가 된 뒤 백그라운드 스레드에서 돌고,
+ * 다시 계산하는 동안에도 기본(10초) 지표는 그대로 조회됩니다.
+ */
+@Slf4j
+@Component
+public class MetricRollupBackfill {
+
+    private final NetworkMetricRepository networkMetricRepository;
+    private final NetworkMetricService networkMetricService;
+    private final MetricResolutions metricResolutions;
+    private final boolean enabled;
+
+    public MetricRollupBackfill(NetworkMetricRepository networkMetricRepository,
+                                NetworkMetricService networkMetricService,
+                                MetricResolutions metricResolutions,
+                                @Value("${metrics.rollup.backfill:true}") boolean enabled) {
+        this.networkMetricRepository = networkMetricRepository;
+        this.networkMetricService = networkMetricService;
+        this.metricResolutions = metricResolutions;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        if (!enabled) return;
+
+        Thread worker = new Thread(this::run, "metric-rollup-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /** @return 다시 계산한 경기 수 */
+    int run() {
+        Set<Long> matchIds = new TreeSet<>();
+        for (int resolution : metricResolutions.all()) {
+            matchIds.addAll(networkMetricRepository.findMatchIdsMissingResolution(resolution));
+        }
+        if (matchIds.isEmpty()) return 0;
+
+        log.info("해상도별 지표 다시 계산 시작 - 경기 {}개", matchIds.size());
+        int done = 0;
+        for (Long matchId : matchIds) {
+            try {
+                networkMetricService.analyzeAndSaveMetrics(matchId);
+                done++;
+            } catch (RuntimeException e) {
+                // 한 경기가 실패해도 나머지는 계속 (다음 시작 때 다시 시도됨)
+                log.warn("해상도별 지표 계산 실패 - matchId={}: {}", matchId, e.getMessage());
+            }
+        }
+        log.info("해상도별 지표 다시 계산 완료 - {}/{}", done, matchIds.size());
+        return done;
+    }
+}
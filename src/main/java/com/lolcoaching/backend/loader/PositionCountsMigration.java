@@ -0,0 +1,132 @@
+package com.lolcoaching.backend.loader;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * network_metric 포지션별 횟수 이전: TEXT 컬럼 -> int 컬럼 (out_top .. out_sup, in_top .. in_sup)
+ *
+ * 예전 컬럼(position_da_counts, position_receive_counts)에 "TOP:1,JUG:0,..." 문자열로 남아 있는 행을
+ * 서버가 요청을 받기 전에 int 컬럼으로 옮기고, 다 옮기면 예전 컬럼을 지웁니다.
+ *  - 새 int 컬럼이 없으면 여기서 먼저 만듦 (DEFAULT 0) -> 운영 DB처럼 ddl-auto를 쓰지 않아도 혼자 끝까지 진행
+ *    (ddl-auto를 쓰는 환경에서는 Hibernate가 먼저 만들 수 있도록 EntityManagerFactory 다음에 실행)
+ *  - 옮긴 행은 예전 값을 null로 비움 -> 중간에 서버가 죽어도 다음 시작 때 남은 행만 이어서 처리
+ *  - 옮긴 경기는 리비전을 올려서 ETag를 바꿈 (문자열 응답을 캐시한 브라우저가 304로 예전 형식을 쓰지 않도록)
+ *
+ * 예전 컬럼이 없으면(새 DB, 이미 이전 완료) 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Component
+public class PositionCountsMigration {
+
+    static final String TABLE = "network_metric";
+    static final String OLD_OUT = "position_da_counts";
+    static final String OLD_IN = "position_receive_counts";
+
+    private static final int CHUNK = 1000;
+    private static final List<String> ROLES = List.of("TOP", "JUG", "MID", "ADC", "SUP");
+    private static final List<String> NEW_COLUMNS = List.of(
+            "out_top", "out_jug", "out_mid", "out_adc", "out_sup",
+            "in_top", "in_jug", "in_mid", "in_adc", "in_sup");
+
+    private static final String SELECT_CHUNK =
+            "select id, match_id, " + OLD_OUT + ", " + OLD_IN + " from " + TABLE
+                    + " where id > ? and (" + OLD_OUT + " is not null or " + OLD_IN + " is not null)"
+                    + " order by id limit " + CHUNK;
+    private static final String UPDATE_ROW =
+            "update " + TABLE + " set out_top = ?, out_jug = ?, out_mid = ?, out_adc = ?, out_sup = ?,"
+                    + " in_top = ?, in_jug = ?, in_mid = ?, in_adc = ?, in_sup = ?,"
+                    + " " + OLD_OUT + " = null, " + OLD_IN + " = null where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory: 스키마 갱신이 끝난 뒤에 만들어지도록 의존성만 걸어둠
+    public PositionCountsMigration(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @PostConstruct
+    void migrate() {
+        if (!hasColumn(OLD_OUT) || !hasColumn(OLD_IN)) return;
+
+        log.info("network_metric 포지션 횟수 이전 시작 (TEXT -> int 컬럼)");
+        for (String column : NEW_COLUMNS) {
+            if (!hasColumn(column)) {
+                jdbcTemplate.execute("alter table " + TABLE + " add column " + column + " int not null default 0");
+            }
+        }
+        Set<Long> matchIds = new LinkedHashSet<>();
+        long lastId = 0;
+        int migrated = 0;
+        while (true) {
+            List<Row> rows = jdbcTemplate.query(SELECT_CHUNK, (rs, i) -> new Row(
+                    rs.getLong("id"), rs.getLong("match_id"), rs.getString(OLD_OUT), rs.getString(OLD_IN)), lastId);
+            if (rows.isEmpty()) break;
+
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                int[] out = parse(row.out());
+                int[] in = parse(row.in());
+                updates.add(new Object[]{out[0], out[1], out[2], out[3], out[4], in[0], in[1], in[2], in[3], in[4], row.id()});
+                matchIds.add(row.matchId());
+            }
+            jdbcTemplate.batchUpdate(UPDATE_ROW, updates);
+            migrated += rows.size();
+            lastId = rows.get(rows.size() - 1).id();
+        }
+
+        List<Object[]> revisions = matchIds.stream().map(id -> new Object[]{id}).toList();
+        jdbcTemplate.batchUpdate("update game_match set revision = revision + 1 where id = ?", revisions);
+
+        jdbcTemplate.execute("alter table " + TABLE + " drop column " + OLD_OUT);
+        jdbcTemplate.execute("alter table " + TABLE + " drop column " + OLD_IN);
+        log.info("network_metric 포지션 횟수 이전 완료 - 행 {}개, 경기 {}개", migrated, matchIds.size());
+    }
+
+    /** "TOP:1,JUG:0,MID:5,ADC:2,SUP:0" -> [1, 0, 5, 2, 0] (5개 포지션 밖의 값은 버림 - 프론트도 읽지 않던 값) */
+    static int[] parse(String value) {
+        int[] counts = new int[ROLES.size()];
+        if (value == null || value.isBlank()) return counts;
+
+        for (String part : value.split(",")) {
+            int colon = part.indexOf(':');
+            if (colon < 0) continue;
+            int role = ROLES.indexOf(part.substring(0, colon).trim());
+            if (role < 0) continue;
+            try {
+                counts[role] += Integer.parseInt(part.substring(colon + 1).trim());
+            } catch (NumberFormatException e) {
+                log.warn("포지션 횟수 형식 오류 - 무시: {}", part);
+            }
+        }
+        return counts;
+    }
+
+    private boolean hasColumn(String column) {
+        Boolean found = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData meta = connection.getMetaData();
+            // MySQL은 소문자, H2는 대문자로 저장된 이름
+            for (String[] names : new String[][]{{TABLE, column}, {TABLE.toUpperCase(), column.toUpperCase()}}) {
+                try (ResultSet rs = meta.getColumns(connection.getCatalog(), null, names[0], names[1])) {
+                    if (rs.next()) return true;
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(found);
+    }
+
+    private record Row(long id, long matchId, String out, String in) {}
+}
@@ -0,0 +1,33 @@
+package com.lolcoaching.backend.loader;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시드 데이터 로딩 상태 (/actuator/health/readiness 의 "seedData")
+ * 로딩 중에는 OUT_OF_SERVICE, 끝나면 UP. (서버 자체는 로딩과 상관없이 먼저 요청을 받음)
+ */
+@Component
+@RequiredArgsConstructor
+public class SeedDataHealthIndicator implements HealthIndicator {
+
+    private final CsvDataLoader csvDataLoader;
+
+    @Override
+    public Health health() {
+        CsvDataLoader.State state = csvDataLoader.getState();
+        Health.Builder builder = switch (state) {
+            case PENDING, RUNNING -> Health.outOfService();
+            case FAILED -> Health.down();
+            default -> Health.up(); // DONE, DISABLED
+        };
+        builder.withDetail("state", state)
+                .withDetail("total", csvDataLoader.getTotal())
+                .withDetail("imported", csvDataLoader.getImported())
+                .withDetail("failed", csvDataLoader.getFailed());
+        if (csvDataLoader.getError() != null) builder.withDetail("error", csvDataLoader.getError());
+        return builder.build();
+    }
+}
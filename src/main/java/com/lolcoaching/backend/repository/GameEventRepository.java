@@ -5,4 +5,6 @@ import java.util.List;
 
 public interface GameEventRepository extends JpaRepository<GameEvent, Long> {
     List<GameEvent> findByGameMatchId(Long matchId);
+    // 경기 상세용: idx_game_event_match_time (match_id, event_time), 같은 시각은 저장 순서
+    List<GameEvent> findByGameMatchIdOrderByEventTimeAscIdAsc(Long matchId);
 }
\ No newline at end of file
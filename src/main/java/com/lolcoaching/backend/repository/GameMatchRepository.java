@@ -1,6 +1,35 @@
 package com.lolcoaching.backend.repository;
 import com.lolcoaching.backend.domain.GameMatch;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface GameMatchRepository extends JpaRepository<GameMatch, Long> {
-}
\ No newline at end of file
+
+    // 같은 경기가 이미 임포트되어 있는지 확인 (unique 인덱스로 바로 찾음)
+    @Query("select m.id from GameMatch m where m.contentHash = :contentHash")
+    Optional<Long> findIdByContentHash(@Param("contentHash") String contentHash);
+
+    // 지표 재계산 등으로 경기 데이터가 바뀌었을 때 리비전 증가 (ETag가 바뀜)
+    @Modifying
+    @Query("update GameMatch m set m.revision = m.revision + 1 where m.id = :matchId")
+    int incrementRevision(@Param("matchId") Long matchId);
+
+    // ETag 계산용 (엔티티 전체 대신 필요한 컬럼만, 영속성 컨텍스트를 거치지 않고 DB 값 그대로)
+    @Query("select m.id as id, m.contentHash as contentHash, m.revision as revision from GameMatch m where m.id = :matchId")
+    Optional<RevisionView> findRevisionById(@Param("matchId") Long matchId);
+
+    // 대사 검색 색인이 지금 DB의 것인지 확인용 (전체 경기 id + 내용 해시)
+    @Query("select m.id as id, m.contentHash as contentHash, m.revision as revision from GameMatch m")
+    List<RevisionView> findAllRevisions();
+
+    interface RevisionView {
+        Long getId();
+        String getContentHash();
+        long getRevision();
+    }
+}
@@ -0,0 +1,143 @@
+package com.lolcoaching.backend.repository;
+
+import com.lolcoaching.backend.domain.GameEvent;
+import com.lolcoaching.backend.domain.NetworkMetric;
+import com.lolcoaching.backend.domain.Player;
+import com.lolcoaching.backend.domain.PositionCounts;
+import com.lolcoaching.backend.domain.VoiceLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 임포트 전용 JDBC 배치 INSERT.
+ *
+ * 엔티티 ID가 전부 IDENTITY라서 Hibernate는 INSERT 배치를 꺼버립니다.
+ * (saveAll을 해도 행마다 INSERT 1번 = DB 왕복 1번)
+ * 여기서는 JdbcTemplate.batchUpdate로 묶어서 보내고, MySQL은 rewriteBatchedStatements=true 설정으로
+ * 여러 행짜리 INSERT 한 문장으로 바꿔서 전송합니다.
+ *
+ * 같은 트랜잭션의 커넥션을 쓰므로 JPA로 저장한 GameMatch와 한 트랜잭션으로 커밋/롤백됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchBatchWriter {
+
+    private static final String INSERT_PLAYER =
+            "insert into player (match_id, in_game_id, summoner_name, position, team) values (?, ?, ?, ?, ?)";
+    private static final String INSERT_VOICE_LOG =
+            "insert into voice_log (match_id, player_id, start_time, end_time, text_kor, act_code, act_label) values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_GAME_EVENT =
+            "insert into game_event (match_id, event_time, event_name, killer_id, victim_id) values (?, ?, ?, ?, ?)";
+    private static final String INSERT_NETWORK_METRIC =
+            "insert into network_metric (match_id, resolution, time_index, start_sec, source_da, target_da, count, density, cod, cid,"
+                    + " out_top, out_jug, out_mid, out_adc, out_sup, in_top, in_jug, in_mid, in_adc, in_sup)"
+                    + " values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 플레이어를 한 번에 저장하고, 생성된 ID를 각 Player 객체에 채워줍니다. (VoiceLog의 player_id로 사용) */
+    public void insertPlayers(List<Player> players) {
+        if (players.isEmpty()) return;
+
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_PLAYER, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Player p = players.get(i);
+                        ps.setLong(1, p.getGameMatch().getId());
+                        setNullableInt(ps, 2, p.getInGameId());
+                        ps.setString(3, p.getSummonerName());
+                        ps.setString(4, p.getPosition());
+                        ps.setString(5, p.getTeam());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return players.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < players.size() && i < keys.size(); i++) {
+            Object id = keys.get(i).values().iterator().next();
+            players.get(i).setId(((Number) id).longValue());
+        }
+    }
+
+    public void insertVoiceLogs(List<VoiceLog> logs) {
+        jdbcTemplate.batchUpdate(INSERT_VOICE_LOG, logs, logs.size(), (ps, log) -> {
+            ps.setLong(1, log.getGameMatch().getId());
+            if (log.getPlayer() != null && log.getPlayer().getId() != null) {
+                ps.setLong(2, log.getPlayer().getId());
+            } else {
+                ps.setNull(2, Types.BIGINT);
+            }
+            setNullableDouble(ps, 3, log.getStartTime());
+            setNullableDouble(ps, 4, log.getEndTime());
+            ps.setString(5, log.getTextKor());
+            ps.setInt(6, log.getActCode());
+            ps.setString(7, log.getActLabel());
+        });
+    }
+
+    public void insertGameEvents(List<GameEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_GAME_EVENT, events, events.size(), (ps, event) -> {
+            ps.setLong(1, event.getGameMatch().getId());
+            setNullableLong(ps, 2, event.getEventTime());
+            ps.setString(3, event.getEventName());
+            setNullableLong(ps, 4, event.getKillerId());
+            setNullableLong(ps, 5, event.getVictimId());
+        });
+    }
+
+    public void insertNetworkMetrics(List<NetworkMetric> metrics, int batchSize) {
+        jdbcTemplate.batchUpdate(INSERT_NETWORK_METRIC, metrics, batchSize, (ps, m) -> {
+            ps.setLong(1, m.getMatchId());
+            ps.setInt(2, m.getResolution());
+            ps.setInt(3, m.getTimeIndex());
+            ps.setInt(4, m.getStartSec());
+            ps.setInt(5, m.getSourceDa());
+            ps.setInt(6, m.getTargetDa());
+            ps.setInt(7, m.getCount());
+            ps.setDouble(8, m.getDensity());
+            ps.setDouble(9, m.getCod());
+            ps.setDouble(10, m.getCid());
+            setCounts(ps, 11, m.getPositionDaCounts());
+            setCounts(ps, 16, m.getPositionReceiveCounts());
+        });
+    }
+
+    // 포지션 순서(TOP..SUP)대로 5칸
+    private static void setCounts(PreparedStatement ps, int index, PositionCounts counts) throws SQLException {
+        int[] values = counts.toArray();
+        for (int i = 0; i < values.length; i++) ps.setInt(index + i, values[i]);
+    }
+
+    private static void setNullableInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.INTEGER);
+        else ps.setInt(index, value);
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.BIGINT);
+        else ps.setLong(index, value);
+    }
+
+    private static void setNullableDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.DOUBLE);
+        else ps.setDouble(index, value);
+    }
+}
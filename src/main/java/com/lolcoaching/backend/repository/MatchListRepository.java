@@ -0,0 +1,70 @@
+package com.lolcoaching.backend.repository;
+
+import com.lolcoaching.backend.Dto.MatchListDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 경기 목록 조회 (DTO 프로젝션 + keyset 페이지).
+ *
+ * 엔티티 대신 select new MatchListDto(...)로 필요한 컬럼만 읽어서 영속성 컨텍스트에 아무것도 올리지 않습니다.
+ * 정렬마다 (정렬 키, id) 복합 인덱스를 타도록 조건/정렬을 맞춥니다.
+ *  - 최근 임포트 순: idx_game_match_imported (imported_at, id) 역순 스캔
+ *  - 이름 순 + 접두어 검색: idx_game_match_code (match_code, id) 범위 스캔
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchListRepository {
+
+    private static final String SELECT = "select new com.lolcoaching.backend.Dto.MatchListDto(m.id, m.matchCode, m.importedAt)"
+            + " from GameMatch m";
+
+    private final EntityManager entityManager;
+
+    /** 전체 목록 (id 순) - 기존 /list 용 */
+    public List<MatchListDto> findAll() {
+        return entityManager.createQuery(SELECT + " order by m.id asc", MatchListDto.class).getResultList();
+    }
+
+    /** limit개를 요청하면 다음 페이지 존재 여부 확인용으로 최대 limit + 1개를 돌려줍니다. */
+    public List<MatchListDto> findRecent(String codePrefix, LocalDateTime afterImportedAt, Long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder(SELECT).append(" where 1 = 1");
+        if (codePrefix != null) jpql.append(" and m.matchCode like :prefix escape '!'");
+        if (afterId != null) {
+            jpql.append(" and (m.importedAt < :afterKey or (m.importedAt = :afterKey and m.id < :afterId))");
+        }
+        jpql.append(" order by m.importedAt desc, m.id desc");
+        return page(jpql, codePrefix, afterImportedAt, afterId, limit);
+    }
+
+    public List<MatchListDto> findByCode(String codePrefix, String afterCode, Long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder(SELECT).append(" where 1 = 1");
+        if (codePrefix != null) jpql.append(" and m.matchCode like :prefix escape '!'");
+        if (afterId != null) {
+            jpql.append(" and (m.matchCode > :afterKey or (m.matchCode = :afterKey and m.id > :afterId))");
+        }
+        jpql.append(" order by m.matchCode asc, m.id asc");
+        return page(jpql, codePrefix, afterCode, afterId, limit);
+    }
+
+    private List<MatchListDto> page(StringBuilder jpql, String codePrefix, Object afterKey, Long afterId, int limit) {
+        TypedQuery<MatchListDto> query = entityManager.createQuery(jpql.toString(), MatchListDto.class)
+                .setMaxResults(limit + 1);
+        if (codePrefix != null) query.setParameter("prefix", escapeLike(codePrefix) + "%");
+        if (afterId != null) {
+            query.setParameter("afterKey", afterKey);
+            query.setParameter("afterId", afterId);
+        }
+        return query.getResultList();
+    }
+
+    // 사용자가 입력한 %, _ 는 와일드카드가 아니라 글자 그대로 검색
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -0,0 +1,128 @@
+package com.lolcoaching.backend.repository;
+
+import com.lolcoaching.backend.Dto.GameEventResponseDto;
+import com.lolcoaching.backend.Dto.VoiceLogResponseDto;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.conf.RuntimeProperty;
+import com.mysql.cj.jdbc.JdbcConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * 경기 내보내기용 forward-only 커서 조회.
+ *
+ * 결과를 List로 모으지 않고 한 행씩 DTO로 바꿔서 바로 넘겨주므로, 경기 길이와 상관없이
+ * 메모리에는 fetchSize 만큼의 행만 올라옵니다.
+ *
+ * MySQL은 useCursorFetch가 켜져 있어야 fetchSize 단위로 나눠 받는데, 이 설정은 커넥션의 모든 문장을
+ * 서버 prepared statement로 바꿔 버립니다. (임포트 batch INSERT 경로까지 영향)
+ * 그래서 전역(JDBC URL)으로 켜지 않고, 내보내기 조회를 하는 동안만 그 커넥션에서 켰다가 원래대로 돌려놓습니다.
+ */
+@Repository
+public class MatchStreamRepository {
+
+    private static final String SELECT_VOICE_LOGS =
+            "select v.id, v.text_kor, v.start_time, v.end_time, v.act_code, v.act_label, p.position, p.summoner_name"
+                    + " from voice_log v left join player p on p.id = v.player_id"
+                    + " where v.match_id = ? order by v.start_time, v.id";
+    private static final String SELECT_GAME_EVENTS =
+            "select e.event_name, e.event_time, e.killer_id, e.victim_id"
+                    + " from game_event e where e.match_id = ? order by e.event_time, e.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public MatchStreamRepository(JdbcTemplate jdbcTemplate,
+                                 @Value("${export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    public void streamVoiceLogs(Long matchId, Consumer<VoiceLogResponseDto> consumer) {
+        stream(SELECT_VOICE_LOGS, matchId, rs -> {
+            String position = rs.getString(7);
+            String speakerName = rs.getString(8);
+            consumer.accept(new VoiceLogResponseDto(
+                    rs.getLong(1),
+                    rs.getString(2),
+                    (long) rs.getDouble(3),
+                    (long) rs.getDouble(4),
+                    rs.getInt(5),
+                    rs.getString(6),
+                    position != null ? position : "UNKNOWN",
+                    speakerName != null ? speakerName : "Unknown"));
+        });
+    }
+
+    public void streamGameEvents(Long matchId, Consumer<GameEventResponseDto> consumer) {
+        stream(SELECT_GAME_EVENTS, matchId, rs -> consumer.accept(new GameEventResponseDto(
+                rs.getString(1),
+                nullableLong(rs, 2),
+                nullableLong(rs, 3),
+                nullableLong(rs, 4))));
+    }
+
+    private void stream(String sql, Long matchId, RowHandler handler) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            // 커서 설정은 문장을 닫은 뒤에 되돌림 (try-with-resources는 역순으로 닫음)
+            try (MysqlCursorFetch ignored = MysqlCursorFetch.enable(con);
+                 PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                ps.setFetchSize(fetchSize);
+                ps.setLong(1, matchId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) handler.handle(rs);
+                }
+            }
+            return null;
+        });
+    }
+
+    private static Long nullableLong(ResultSet rs, int index) throws SQLException {
+        long value = rs.getLong(index);
+        return rs.wasNull() ? null : value;
+    }
+
+    /** MySQL 커넥션 한 개에서만 서버 커서(useCursorFetch + 서버 prepared statement)를 켜 둠 */
+    private static final class MysqlCursorFetch implements AutoCloseable {
+
+        private final RuntimeProperty<Boolean> cursorFetch;
+        private final RuntimeProperty<Boolean> serverPrepStmts;
+        private final boolean cursorFetchBefore;
+        private final boolean serverPrepStmtsBefore;
+
+        private MysqlCursorFetch(PropertySet properties) {
+            this.cursorFetch = properties.getBooleanProperty(PropertyKey.useCursorFetch);
+            this.serverPrepStmts = properties.getBooleanProperty(PropertyKey.useServerPrepStmts);
+            this.cursorFetchBefore = cursorFetch.getValue();
+            this.serverPrepStmtsBefore = serverPrepStmts.getValue();
+            cursorFetch.setValue(true);
+            serverPrepStmts.setValue(true);
+        }
+
+        // MySQL 커넥션이 아니면(H2 등) null - try-with-resources가 null은 닫지 않음
+        static MysqlCursorFetch enable(Connection con) throws SQLException {
+            if (!con.isWrapperFor(JdbcConnection.class)) return null;
+            return new MysqlCursorFetch(con.unwrap(JdbcConnection.class).getPropertySet());
+        }
+
+        @Override
+        public void close() {
+            cursorFetch.setValue(cursorFetchBefore);
+            serverPrepStmts.setValue(serverPrepStmtsBefore);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowHandler {
+        void handle(ResultSet rs) throws SQLException;
+    }
+}
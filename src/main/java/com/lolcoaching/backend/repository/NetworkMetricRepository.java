@@ -2,6 +2,9 @@ package com.lolcoaching.backend.repository;
 
 import com.lolcoaching.backend.domain.NetworkMetric;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,14 +13,21 @@ import java.util.List;
 public interface NetworkMetricRepository extends JpaRepository<NetworkMetric, Long> {
 
     /**
-     * 특정 게임의 '특정 대화 패턴'에 대한 지표만 시간순으로 가져옵니다.
+     * 특정 게임의 '특정 대화 패턴'에 대한 지표만 해상도별로 시간순으로 가져옵니다.
      * 용도: 프론트엔드 그래프 그리기
-     * 예: findByMatchIdAndSourceDaAndTargetDaOrderByTimeIndexAsc(1L, 1, 0); -> "질문->답변" 추이 조회
+     * 예: findByMatchIdAndResolutionAndSourceDaAndTargetDaOrderByTimeIndexAsc(1L, 10, 1, 0); -> "질문->답변" 10초 단위 추이 조회
      */
-    List<NetworkMetric> findByMatchIdAndSourceDaAndTargetDaOrderByTimeIndexAsc(
-            Long matchId, int sourceDa, int targetDa
+    List<NetworkMetric> findByMatchIdAndResolutionAndSourceDaAndTargetDaOrderByTimeIndexAsc(
+            Long matchId, int resolution, int sourceDa, int targetDa
     );
-    void deleteByMatchId(Long matchId);
+    // 어떤 해상도의 지표가 아직 없는 경기 (해상도 설정이 생기기/바뀌기 전에 계산된 경기 -> MetricRollupBackfill)
+    @Query("select distinct m.matchId from NetworkMetric m where not exists"
+            + " (select 1 from NetworkMetric r where r.matchId = m.matchId and r.resolution = :resolution)")
+    List<Long> findMatchIdsMissingResolution(@Param("resolution") int resolution);
+    // 파생 delete는 엔티티를 전부 읽어서 한 건씩 지우므로 벌크 DELETE 한 문장으로 처리
+    @Modifying
+    @Query("delete from NetworkMetric m where m.matchId = :matchId")
+    void deleteByMatchId(@Param("matchId") Long matchId);
     /**
      * 특정 게임의 모든 지표 데이터를 가져옵니다.
      * 용도: 한 번에 데이터를 다 로딩해놓고 필터링할 때 사용
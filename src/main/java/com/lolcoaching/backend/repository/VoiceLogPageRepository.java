@@ -0,0 +1,52 @@
+package com.lolcoaching.backend.repository;
+
+import com.lolcoaching.backend.Dto.VoiceLogCursor;
+import com.lolcoaching.backend.domain.VoiceLog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 보이스 로그 keyset 페이지 조회.
+ *
+ * 필터(시간 구간, 포지션, 발화 행위)가 전부 선택 사항이라 조건에 맞춰 JPQL을 조립합니다.
+ * match_id 동등 조건 + start_time 범위 + (start_time, id) 커서라서
+ * idx_voice_log_match_start (match_id, start_time) 범위 스캔 한 번으로 한 페이지를 읽습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoiceLogPageRepository {
+
+    private final EntityManager entityManager;
+
+    /** limit개를 요청하면 다음 페이지 존재 여부 확인용으로 최대 limit + 1개를 돌려줍니다. */
+    public List<VoiceLog> findPage(Long matchId, Double from, Double to, List<String> positions, List<Integer> actCodes,
+                                   VoiceLogCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder(
+                "select v from VoiceLog v left join fetch v.player p where v.gameMatch.id = :matchId");
+        if (from != null) jpql.append(" and v.startTime >= :from");
+        if (to != null) jpql.append(" and v.startTime <= :to");
+        if (after != null) {
+            jpql.append(" and (v.startTime > :afterStart or (v.startTime = :afterStart and v.id > :afterId))");
+        }
+        if (positions != null && !positions.isEmpty()) jpql.append(" and p.position in :positions");
+        if (actCodes != null && !actCodes.isEmpty()) jpql.append(" and v.actCode in :actCodes");
+        jpql.append(" order by v.startTime asc, v.id asc");
+
+        TypedQuery<VoiceLog> query = entityManager.createQuery(jpql.toString(), VoiceLog.class)
+                .setParameter("matchId", matchId)
+                .setMaxResults(limit + 1);
+        if (from != null) query.setParameter("from", from);
+        if (to != null) query.setParameter("to", to);
+        if (after != null) {
+            query.setParameter("afterStart", after.startTime());
+            query.setParameter("afterId", after.id());
+        }
+        if (positions != null && !positions.isEmpty()) query.setParameter("positions", positions);
+        if (actCodes != null && !actCodes.isEmpty()) query.setParameter("actCodes", actCodes);
+        return query.getResultList();
+    }
+}
@@ -1,12 +1,45 @@
 package com.lolcoaching.backend.repository;
 import com.lolcoaching.backend.domain.VoiceLog;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface VoiceLogRepository extends JpaRepository<VoiceLog, Long> {
     // 특정 게임의 로그만 가져오는 기능
     List<VoiceLog> findByGameMatchId(Long matchId);
+    // ★ 분석(NetworkMetricService)에서 로그마다 getPlayer()를 부르므로 플레이어를 같이 조인해서 가져옴 (N+1 방지)
+    @EntityGraph(attributePaths = "player")
     List<VoiceLog> findByGameMatchIdOrderByStartTimeAsc(Long gameMatchId);
+    // 경기 상세용: idx_voice_log_match_start (match_id, start_time) 범위 스캔, 같은 시각은 저장 순서
+    // (VoiceLogResponseDto가 포지션/소환사명을 쓰므로 플레이어도 fetch join)
+    @EntityGraph(attributePaths = "player")
+    List<VoiceLog> findByGameMatchIdOrderByStartTimeAscIdAsc(Long gameMatchId);
     // ★ [추가] 전체 조회용 메서드
     List<VoiceLog> findAllByGameMatchId(Long matchId);
-}
\ No newline at end of file
+    // 대사 검색 색인용 (id, 한글 대사만)
+    @Query("select v.id as id, v.textKor as textKor from VoiceLog v where v.gameMatch.id = :matchId order by v.id")
+    List<TranscriptRow> findTranscriptByMatchId(@Param("matchId") Long matchId);
+    // 대사 검색 결과 (후보 로그를 한 번에, 발화자 표시용 플레이어 fetch join)
+    @EntityGraph(attributePaths = "player")
+    List<VoiceLog> findByIdIn(Collection<Long> ids);
+    // 구간 밀도 색인용 (시각, 발화 행위, 발화자 id/포지션만 / 엔티티 안 만듦)
+    @Query("select v.startTime as startTime, v.actCode as actCode, p.id as playerId, p.position as position " +
+            "from VoiceLog v left join v.player p where v.gameMatch.id = :matchId order by v.startTime asc, v.id asc")
+    List<InteractionRow> findInteractionsByMatchId(@Param("matchId") Long matchId);
+
+    interface TranscriptRow {
+        Long getId();
+        String getTextKor();
+    }
+
+    interface InteractionRow {
+        Double getStartTime();
+        Integer getActCode();
+        Long getPlayerId();
+        String getPosition();
+    }
+}
@@ -0,0 +1,341 @@
+package com.lolcoaching.backend.search;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * 보이스 로그 한글 대사 역색인 (글자 2-gram)
+ *
+ * 형태소 분석기 없이 한글을 검색하려고 공백을 뺀 문자열을 두 글자씩 잘라 색인합니다. ("바론 치자" -> 바론, 론치, 치자)
+ * 검색어의 2-gram이 모두 들어 있는 로그만 후보로 나오므로, 검색어가 세 글자 이상이면
+ * 글자가 떨어져 있는 후보가 섞일 수 있습니다 -> 호출하는 쪽에서 원문으로 한 번 더 확인합니다.
+ *
+ * 경기 하나 = 세그먼트 하나. 임포트될 때마다 세그먼트를 파일 끝에 덧붙이고(append),
+ * 재시작 때는 파일만 읽어서 복원합니다. (DB 전체를 다시 읽지 않음)
+ *   파일 = [MAGIC][VERSION] + 세그먼트 * N
+ *   세그먼트 = [길이][본문][CRC32]  (쓰다가 죽어서 잘린 마지막 세그먼트는 열 때 잘라냄)
+ *   본문 = matchId, contentHash, 로그 수, logId * 로그 수, gram 수, (gram, 로그 수, 로그 번호...) * gram 수
+ */
+public class TranscriptIndex {
+
+    private static final int MAGIC = 0x4C4F4C54; // "LOLT"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+
+    /** 색인할 로그 한 줄 */
+    public record Doc(long logId, String text) {}
+
+    private final Path file;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // gram(두 글자를 int 하나로) -> 로그 번호 목록 (오름차순, 번호 = 색인에 들어간 순서)
+    private final Map<Integer, IntList> postings = new HashMap<>();
+    private long[] logIds = new long[1024]; // 로그 번호 -> VoiceLog id
+    private int docCount;
+    private final Map<Long, String> matches = new LinkedHashMap<>(); // 색인된 경기 id -> contentHash
+
+    private TranscriptIndex(Path file) {
+        this.file = file;
+    }
+
+    /** 파일에서 색인을 복원합니다. 파일이 없으면 빈 색인을 만듭니다. */
+    public static TranscriptIndex open(Path file) throws IOException {
+        TranscriptIndex index = new TranscriptIndex(file);
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        if (!Files.exists(file) || Files.size(file) < HEADER_BYTES) {
+            index.writeHeader();
+            return index;
+        }
+        index.load();
+        return index;
+    }
+
+    public boolean contains(long matchId) {
+        lock.readLock().lock();
+        try {
+            return matches.containsKey(matchId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 색인된 경기 id -> contentHash (다른 DB의 색인인지 확인용) */
+    public Map<Long, String> matches() {
+        lock.readLock().lock();
+        try {
+            return new HashMap<>(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 경기 하나를 색인에 추가하고 파일에 덧붙입니다. 이미 있는 경기면 무시합니다.
+     * (2-gram 계산은 락 밖에서 하므로 검색을 오래 막지 않음)
+     */
+    public void addMatch(long matchId, String contentHash, List<Doc> docs) throws IOException {
+        Segment segment = Segment.build(matchId, contentHash == null ? "" : contentHash, docs);
+        byte[] body = segment.encode();
+
+        lock.writeLock().lock();
+        try {
+            if (matches.containsKey(matchId)) return;
+            append(body);
+            merge(segment);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 색인을 비웁니다. (DB가 바뀌어서 파일 내용이 맞지 않을 때) */
+    public void clear() throws IOException {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            matches.clear();
+            docCount = 0;
+            writeHeader();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 2-gram이 모두 들어 있는 로그 id (최근에 색인된 것부터, 최대 limit개)
+     * @throws IllegalArgumentException 공백을 빼고 두 글자 미만인 검색어
+     */
+    public List<Long> candidates(String query, int limit) {
+        int[] grams = grams(normalize(query)).stream().mapToInt(Integer::intValue).distinct().toArray();
+        if (grams.length == 0) throw new IllegalArgumentException("검색어는 두 글자 이상이어야 합니다");
+
+        lock.readLock().lock();
+        try {
+            IntList[] lists = new IntList[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = postings.get(grams[i]);
+                if (lists[i] == null) return List.of();
+            }
+            // 가장 짧은 목록을 뒤에서부터 훑으면서 나머지 목록에 모두 있는지 이진 탐색
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+            List<Long> result = new ArrayList<>();
+            IntList shortest = lists[0];
+            for (int i = shortest.size - 1; i >= 0 && result.size() < limit; i--) {
+                int doc = shortest.values[i]; // 세그먼트를 만들 때 로그당 한 번만 넣으므로 중복 없음
+                boolean all = true;
+                for (int j = 1; j < lists.length && all; j++) all = lists[j].contains(doc);
+                if (all) result.add(logIds[doc]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 색인/검색 공통 정규화: 소문자 + 공백 제거 */
+    public static String normalize(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        text.toLowerCase(Locale.ROOT).codePoints()
+                .filter(c -> !Character.isWhitespace(c))
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    private static List<Integer> grams(String normalized) {
+        if (normalized.length() < 2) return List.of();
+        List<Integer> grams = new ArrayList<>(normalized.length() - 1);
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            grams.add((normalized.charAt(i) << 16) | normalized.charAt(i + 1));
+        }
+        return grams;
+    }
+
+    // ===== 메모리 =====
+
+    private void merge(Segment segment) {
+        int base = docCount;
+        if (logIds.length < base + segment.logIds.length) {
+            logIds = Arrays.copyOf(logIds, Math.max(logIds.length * 2, base + segment.logIds.length));
+        }
+        System.arraycopy(segment.logIds, 0, logIds, base, segment.logIds.length);
+        docCount += segment.logIds.length;
+        segment.postings.forEach((gram, docs) -> {
+            IntList list = postings.computeIfAbsent(gram, g -> new IntList());
+            for (int i = 0; i < docs.size; i++) list.add(base + docs.values[i]);
+        });
+        matches.put(segment.matchId, segment.contentHash);
+    }
+
+    // ===== 파일 =====
+
+    private void writeHeader() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip());
+        }
+    }
+
+    private void append(byte[] body) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        ByteBuffer buffer = ByteBuffer.allocate(4 + body.length + 8)
+                .putInt(body.length).put(body).putLong(crc.getValue()).flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+    }
+
+    private void load() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            readFully(channel, header, 0);
+            if (header.flip().getInt() != MAGIC || header.getInt() != VERSION) {
+                channel.truncate(0);
+                channel.write(ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip(), 0);
+                return;
+            }
+
+            long position = HEADER_BYTES;
+            long size = channel.size();
+            while (position + 4 <= size) {
+                ByteBuffer length = ByteBuffer.allocate(4);
+                readFully(channel, length, position);
+                int bodyLength = length.flip().getInt();
+                if (bodyLength < 0 || position + 4 + bodyLength + 8 > size) break; // 잘린 세그먼트
+
+                ByteBuffer rest = ByteBuffer.allocate(bodyLength + 8);
+                readFully(channel, rest, position + 4);
+                byte[] body = new byte[bodyLength];
+                rest.flip().get(body);
+                CRC32 crc = new CRC32();
+                crc.update(body);
+                if (crc.getValue() != rest.getLong()) break; // 깨진 세그먼트
+
+                Segment segment = Segment.decode(body);
+                if (!matches.containsKey(segment.matchId)) merge(segment);
+                position += 4 + bodyLength + 8;
+            }
+            if (position < size) channel.truncate(position); // 뒤에 붙은 깨진 부분은 버림 (해당 경기는 다시 색인됨)
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) throw new IOException("색인 파일이 예상보다 짧습니다");
+        }
+    }
+
+    /** 경기 하나 분량의 작은 역색인 (로그 번호는 0부터) */
+    private static final class Segment {
+        final long matchId;
+        final String contentHash;
+        final long[] logIds;
+        final Map<Integer, IntList> postings;
+
+        private Segment(long matchId, String contentHash, long[] logIds, Map<Integer, IntList> postings) {
+            this.matchId = matchId;
+            this.contentHash = contentHash;
+            this.logIds = logIds;
+            this.postings = postings;
+        }
+
+        static Segment build(long matchId, String contentHash, List<Doc> docs) {
+            long[] logIds = new long[docs.size()];
+            Map<Integer, IntList> postings = new HashMap<>();
+            for (int doc = 0; doc < docs.size(); doc++) {
+                logIds[doc] = docs.get(doc).logId();
+                for (int gram : grams(normalize(docs.get(doc).text()))) {
+                    IntList list = postings.computeIfAbsent(gram, g -> new IntList());
+                    if (list.size == 0 || list.values[list.size - 1] != doc) list.add(doc);
+                }
+            }
+            return new Segment(matchId, contentHash, logIds, postings);
+        }
+
+        byte[] encode() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeLong(matchId);
+                out.writeUTF(contentHash);
+                out.writeInt(logIds.length);
+                for (long logId : logIds) out.writeLong(logId);
+                out.writeInt(postings.size());
+                for (Map.Entry<Integer, IntList> entry : postings.entrySet()) {
+                    out.writeInt(entry.getKey());
+                    IntList docs = entry.getValue();
+                    out.writeInt(docs.size);
+                    for (int i = 0; i < docs.size; i++) out.writeInt(docs.values[i]);
+                }
+            }
+            return bytes.toByteArray();
+        }
+
+        static Segment decode(byte[] body) throws IOException {
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(body))) {
+                long matchId = in.readLong();
+                String contentHash = in.readUTF();
+                long[] logIds = new long[in.readInt()];
+                for (int i = 0; i < logIds.length; i++) logIds[i] = in.readLong();
+                int gramCount = in.readInt();
+                Map<Integer, IntList> postings = new HashMap<>(gramCount * 2);
+                for (int g = 0; g < gramCount; g++) {
+                    int gram = in.readInt();
+                    IntList docs = new IntList(in.readInt());
+                    for (int i = 0; i < docs.values.length; i++) docs.add(in.readInt());
+                    postings.put(gram, docs);
+                }
+                return new Segment(matchId, contentHash, logIds, postings);
+            }
+        }
+    }
+
+    /** int 가변 배열 (Integer 박싱 없이) */
+    private static final class IntList {
+        int[] values;
+        int size;
+
+        IntList() {
+            this(4);
+        }
+
+        IntList(int capacity) {
+            values = new int[Math.max(capacity, 1)];
+        }
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+    }
+}
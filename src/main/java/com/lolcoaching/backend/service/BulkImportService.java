@@ -0,0 +1,175 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.Dto.BulkImportReportDto;
+import com.lolcoaching.backend.Dto.BulkImportReportDto.MatchResult;
+import com.lolcoaching.backend.importer.MatchArchive;
+import com.lolcoaching.backend.importer.ZipMatchArchive;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * 여러 경기를 한 번에 임포트하는 서비스.
+ *
+ * 입력은 (1) 경기 ZIP들이 들어있는 폴더, 또는 (2) 경기 ZIP들을 다시 묶은 바깥 ZIP 입니다.
+ * 경기마다 importMatch를 따로 호출하므로 트랜잭션도 경기 단위이고,
+ * 한 경기가 실패해도 그 경기만 롤백되고 나머지는 계속 진행됩니다.
+ * 동시에 도는 임포트 수는 import.bulk.threads 로 제한됩니다.
+ */
+@Slf4j
+@Service
+public class BulkImportService {
+
+    private final MatchImportService matchImportService;
+    private final int threads;
+
+    public BulkImportService(MatchImportService matchImportService,
+                             @Value("${import.bulk.threads:4}") int threads) {
+        this.matchImportService = matchImportService;
+        this.threads = threads;
+    }
+
+    /** 폴더(하위 폴더 포함)의 *.zip 또는 바깥 ZIP 하나를 받아 일괄 임포트합니다. */
+    public BulkImportReportDto importPath(Path source) throws IOException {
+        if (Files.isDirectory(source)) return importDirectory(source);
+        return importOuterZip(source);
+    }
+
+    public BulkImportReportDto importDirectory(Path dir) throws IOException {
+        List<Path> zips;
+        try (Stream<Path> walk = Files.walk(dir)) {
+            zips = walk.filter(Files::isRegularFile)
+                    .filter(p -> p.getFileName().toString().toLowerCase().endsWith(".zip"))
+                    .sorted()
+                    .toList();
+        }
+
+        return run(pool -> {
+            List<Future<MatchResult>> futures = new ArrayList<>();
+            for (Path zip : zips) {
+                String name = zip.getFileName().toString();
+                futures.add(pool.submit(() -> importOne(name, zip)));
+            }
+            return futures;
+        });
+    }
+
+    /**
+     * 경기 ZIP들이 들어있는 바깥 ZIP.
+     * 안쪽 ZIP을 하나씩 임시 파일로 풀면서 바로 워커에 넘기고, 임포트가 끝나면 임시 파일을 지웁니다.
+     * 풀어둔 채 대기 중인 파일 수는 스레드 수의 2배로 제한해서 디스크 사용량도 묶어둡니다.
+     */
+    public BulkImportReportDto importOuterZip(Path outerZip) throws IOException {
+        try (ZipFile outer = new ZipFile(outerZip.toFile(), StandardCharsets.UTF_8)) {
+            Semaphore extracted = new Semaphore(threads * 2);
+
+            return run(pool -> {
+                List<Future<MatchResult>> futures = new ArrayList<>();
+                Enumeration<? extends ZipEntry> entries = outer.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry entry = entries.nextElement();
+                    if (entry.isDirectory() || !entry.getName().toLowerCase().endsWith(".zip")) continue;
+
+                    String name = baseName(entry.getName());
+                    extracted.acquireUninterruptibly();
+                    Path temp;
+                    try (InputStream in = outer.getInputStream(entry)) {
+                        temp = Files.createTempFile("bulk-match-", ".zip");
+                        Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+                    } catch (IOException e) {
+                        extracted.release();
+                        futures.add(pool.submit(() -> new MatchResult(name, null, "압축 해제 실패: " + e.getMessage(), 0)));
+                        continue;
+                    }
+
+                    futures.add(pool.submit(() -> {
+                        try {
+                            return importOne(name, temp);
+                        } finally {
+                            Files.deleteIfExists(temp);
+                            extracted.release();
+                        }
+                    }));
+                }
+                return futures;
+            });
+        }
+    }
+
+    // 경기 1개 임포트 (실패해도 예외를 던지지 않고 결과에 기록)
+    private MatchResult importOne(String name, Path zip) {
+        long start = System.currentTimeMillis();
+        String matchCode = name.toLowerCase().endsWith(".zip") ? name.substring(0, name.length() - 4) : name;
+        try (MatchArchive archive = new ZipMatchArchive(zip.toFile())) {
+            Long matchId = matchImportService.importMatch(archive, matchCode);
+            return new MatchResult(name, matchId, null, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("bulk import failed: {}", name, e);
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            return new MatchResult(name, null, error, System.currentTimeMillis() - start);
+        }
+    }
+
+    private BulkImportReportDto run(TaskSubmitter submitter) throws IOException {
+        long start = System.currentTimeMillis();
+        AtomicInteger seq = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads,
+                r -> new Thread(r, "bulk-import-" + seq.incrementAndGet()));
+        try {
+            List<MatchResult> results = new ArrayList<>();
+            for (Future<MatchResult> future : submitter.submit(pool)) {
+                results.add(await(future));
+            }
+
+            int succeeded = (int) results.stream().filter(MatchResult::isSuccess).count();
+            BulkImportReportDto report = new BulkImportReportDto(results.size(), succeeded,
+                    results.size() - succeeded, System.currentTimeMillis() - start, results);
+            log.info("bulk import finished: total={}, succeeded={}, failed={}, elapsedMs={}",
+                    report.getTotal(), report.getSucceeded(), report.getFailed(), report.getElapsedMs());
+            return report;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private MatchResult await(Future<MatchResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("bulk import interrupted", e);
+        } catch (ExecutionException e) {
+            // importOne은 예외를 삼키므로 여기까지 오는 건 예상 밖의 오류뿐
+            return new MatchResult("unknown", null, String.valueOf(e.getCause()), 0);
+        }
+    }
+
+    private static String baseName(String entryName) {
+        int slash = entryName.lastIndexOf('/');
+        return slash >= 0 ? entryName.substring(slash + 1) : entryName;
+    }
+
+    @FunctionalInterface
+    private interface TaskSubmitter {
+        List<Future<MatchResult>> submit(ExecutorService pool) throws IOException;
+    }
+}
@@ -0,0 +1,82 @@
+package com.lolcoaching.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * 동시에 도는 임포트 수 제한 (업로드, 비동기 작업, 일괄 임포트, 시드 로딩 공통)
+ *
+ * 임포트 1건은 트랜잭션 동안 커넥션 1개를 계속 붙잡고 있어서, 여러 명이 한꺼번에 올리면 Hikari 풀이 바닥나고
+ * GET /api/matches/{id} 같은 조회까지 커넥션을 기다리게 됩니다.
+ * 그래서 풀 크기에서 조회용 몫(reserved-for-reads)을 뺀 만큼만 임포트에 내줍니다.
+ *
+ *   허용 수 = min(import.admission.max-concurrent, 풀 크기 - import.admission.reserved-for-reads), 최소 1
+ *
+ * - 요청 스레드에서 바로 임포트하는 동기 업로드는 tryAcquire() -> 자리가 없으면 즉시 ImportRejectedException (429)
+ * - 백그라운드 작업(비동기 작업, 일괄 임포트, 시드)은 acquire()로 자리가 날 때까지 기다림
+ */
+@Slf4j
+@Component
+public class ImportAdmission {
+
+    private final Semaphore permits;
+    @Getter private final int maxConcurrent;
+    @Getter private final int retryAfterSeconds;
+    private final Counter rejected;
+
+    public ImportAdmission(@Value("${import.admission.max-concurrent:4}") int maxConcurrent,
+                           @Value("${import.admission.reserved-for-reads:4}") int reservedForReads,
+                           @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                           @Value("${import.admission.retry-after-seconds:5}") int retryAfterSeconds,
+                           MeterRegistry registry) {
+        this.maxConcurrent = Math.max(1, Math.min(maxConcurrent, poolSize - reservedForReads));
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.permits = new Semaphore(this.maxConcurrent, true);
+        this.rejected = Counter.builder("match.import.rejected")
+                .description("Imports rejected because the concurrency limit was reached")
+                .register(registry);
+        Gauge.builder("match.import.active", this, ImportAdmission::getActive)
+                .description("Imports currently holding an admission permit")
+                .register(registry);
+        log.info("import admission: maxConcurrent={} (pool={}, reservedForReads={})",
+                this.maxConcurrent, poolSize, reservedForReads);
+    }
+
+    /** 자리가 없으면 기다리지 않고 바로 ImportRejectedException */
+    public Permit tryAcquire() {
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            throw new ImportRejectedException(retryAfterSeconds);
+        }
+        return new Permit();
+    }
+
+    /** 자리가 날 때까지 기다림 (백그라운드 작업용) */
+    public Permit acquire() throws InterruptedException {
+        permits.acquire();
+        return new Permit();
+    }
+
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /** try-with-resources로 반납 (두 번 닫아도 한 번만 반납) */
+    public class Permit implements AutoCloseable {
+        private boolean released;
+
+        @Override
+        public void close() {
+            if (released) return;
+            released = true;
+            permits.release();
+        }
+    }
+}
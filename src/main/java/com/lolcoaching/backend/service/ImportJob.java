@@ -0,0 +1,65 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.Dto.BulkImportReportDto;
+import com.lolcoaching.backend.importer.ImportProgressListener;
+import com.lolcoaching.backend.importer.ImportStage;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 임포트 작업 1건의 상태. (메모리에만 보관)
+ * 워커 스레드가 갱신하고 요청 스레드가 읽으므로 필드는 volatile / Atomic 으로 둡니다.
+ */
+@Getter
+public class ImportJob implements ImportProgressListener {
+
+    private final String id;
+    private final String matchCode;
+    private final Instant createdAt = Instant.now();
+
+    private volatile ImportStage stage = ImportStage.QUEUED;
+    private volatile Long matchId;
+    private volatile BulkImportReportDto bulkReport; // 일괄 임포트 작업이면 완료 후 결과 요약
+    private volatile String error;
+    private volatile Instant finishedAt;
+    private final AtomicLong rowsPersisted = new AtomicLong();
+
+    public ImportJob(String id, String matchCode) {
+        this.id = id;
+        this.matchCode = matchCode;
+    }
+
+    @Override
+    public void onStage(ImportStage stage) {
+        this.stage = stage;
+    }
+
+    @Override
+    public void onRowsPersisted(int rows) {
+        rowsPersisted.addAndGet(rows);
+    }
+
+    void succeed(Long matchId) {
+        this.matchId = matchId;
+        this.finishedAt = Instant.now();
+        this.stage = ImportStage.DONE;
+    }
+
+    void succeed(BulkImportReportDto report) {
+        this.bulkReport = report;
+        this.finishedAt = Instant.now();
+        this.stage = ImportStage.DONE;
+    }
+
+    void fail(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.stage = ImportStage.FAILED;
+    }
+
+    public boolean isFinished() {
+        return stage == ImportStage.DONE || stage == ImportStage.FAILED;
+    }
+}
@@ -0,0 +1,145 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.Dto.BulkImportReportDto;
+import com.lolcoaching.backend.importer.ImportStage;
+import com.lolcoaching.backend.importer.MatchArchive;
+import com.lolcoaching.backend.importer.ZipMatchArchive;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * 업로드를 작업(Job)으로 받아서 백그라운드 스레드 풀에서 임포트하는 서비스.
+ *
+ * 요청 스레드에서는 업로드 파일을 임시 파일로 옮기는 것까지만 하고 바로 jobId를 돌려줍니다.
+ * (multipart 임시 파일은 요청이 끝나면 지워지므로 반드시 요청 안에서 옮겨둬야 함)
+ * 압축 해제 -> 저장 -> 분석은 importJobExecutor에서 실행되고, 진행 상황은 ImportJob에 기록됩니다.
+ * 일괄 임포트(바깥 ZIP)도 같은 방식으로 작업 하나로 받습니다.
+ */
+@Slf4j
+@Service
+public class ImportJobService {
+
+    private final MatchImportService matchImportService;
+    private final BulkImportService bulkImportService;
+    private final TaskExecutor importJobExecutor;
+
+    // 끝난 작업을 얼마나 오래 조회 가능하게 둘지
+    private final Duration retention;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(MatchImportService matchImportService,
+                            BulkImportService bulkImportService,
+                            @Qualifier("importJobExecutor") TaskExecutor importJobExecutor,
+                            @Value("${import.jobs.retention-minutes:60}") long retentionMinutes) {
+        this.matchImportService = matchImportService;
+        this.bulkImportService = bulkImportService;
+        this.importJobExecutor = importJobExecutor;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+    }
+
+    /**
+     * 업로드 파일을 임시 파일로 옮기고 작업을 대기열에 넣습니다.
+     * @throws TaskRejectedException 대기열이 가득 찬 경우
+     */
+    public ImportJob submit(MultipartFile zipFile, String matchCode) throws IOException {
+        return enqueue(zipFile, "match-job-", matchCode, this::run);
+    }
+
+    /**
+     * 경기 ZIP들을 묶은 바깥 ZIP(대회 하루치 등)을 일괄 임포트 작업으로 넣습니다.
+     * 경기별 결과는 완료 후 ImportJob.bulkReport로 확인합니다.
+     * @throws TaskRejectedException 대기열이 가득 찬 경우
+     */
+    public ImportJob submitBulk(MultipartFile outerZip) throws IOException {
+        return enqueue(outerZip, "bulk-import-", outerZip.getOriginalFilename(), this::runBulk);
+    }
+
+    private ImportJob enqueue(MultipartFile upload, String tempPrefix, String matchCode,
+                              BiConsumer<ImportJob, Path> task) throws IOException {
+        purgeFinishedJobs();
+
+        Path tempZip = Files.createTempFile(tempPrefix, ".zip");
+        try {
+            upload.transferTo(tempZip);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempZip);
+            throw e;
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), matchCode);
+        jobs.put(job.getId(), job);
+        try {
+            importJobExecutor.execute(() -> task.accept(job, tempZip));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            Files.deleteIfExists(tempZip);
+            throw e;
+        }
+        return job;
+    }
+
+    public Optional<ImportJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private void run(ImportJob job, Path tempZip) {
+        try {
+            job.onStage(ImportStage.UNZIP);
+            try (MatchArchive archive = new ZipMatchArchive(tempZip.toFile())) {
+                Long matchId = matchImportService.importMatch(archive, job.getMatchCode(), job);
+                job.succeed(matchId);
+            }
+            log.info("import job {} finished: matchId={}", job.getId(), job.getMatchId());
+        } catch (Exception e) {
+            log.error("import job {} failed", job.getId(), e);
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            deleteTemp(tempZip);
+        }
+    }
+
+    private void deleteTemp(Path tempZip) {
+        try {
+            Files.deleteIfExists(tempZip);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", tempZip);
+        }
+    }
+
+    private void runBulk(ImportJob job, Path tempZip) {
+        try {
+            // 경기별 단계는 BulkImportService 워커들이 진행하므로 작업 자체는 저장 단계로만 표시
+            job.onStage(ImportStage.PERSIST);
+            BulkImportReportDto report = bulkImportService.importOuterZip(tempZip);
+            job.succeed(report);
+            log.info("bulk import job {} finished: {}/{} succeeded", job.getId(), report.getSucceeded(), report.getTotal());
+        } catch (Exception e) {
+            log.error("bulk import job {} failed", job.getId(), e);
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            deleteTemp(tempZip);
+        }
+    }
+
+    private void purgeFinishedJobs() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+}
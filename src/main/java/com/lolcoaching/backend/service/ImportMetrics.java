@@ -0,0 +1,107 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.importer.ImportTrace;
+import com.lolcoaching.backend.importer.ImportTrace.Phase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임포트 단계별 지표 (/actuator/metrics 에서 확인)
+ *
+ * - match.import.stage{stage=hash|unzip|parse|player_insert|voice_log_flush|event_flush|analyze} : 단계별 소요 시간
+ * - match.import{outcome=success|duplicate|failure} : 임포트 전체 소요 시간
+ * - match.import.rows{type=player|voice_log|game_event}, match.import.bytes : 누적 처리량
+ *   (bytes는 저장 구간에서 읽은 원본 크기만 셈 - 파일을 다시 읽은 양과 해시 계산분은 빠짐)
+ * - match.import.hash.bytes : 중복 확인용 content hash 계산으로 읽은 바이트
+ * - match.import.throughput : 임포트 한 건의 초당 저장 행 수
+ *
+ * 그리고 임포트마다 key=value 형식 요약 로그 한 줄을 남깁니다. (운영에서 grep/집계해서 회귀 추적용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImportMetrics {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_DUPLICATE = "duplicate";
+    public static final String OUTCOME_FAILURE = "failure";
+
+    private final MeterRegistry registry;
+
+    public void record(ImportTrace trace, String matchCode, Long matchId, String outcome) {
+        long totalNanos = trace.elapsedNanos();
+
+        for (Phase phase : Phase.values()) {
+            long nanos = trace.nanos(phase);
+            if (nanos <= 0) continue; // 실행되지 않은 단계 (중복/실패로 중간에 끝난 경우)
+            Timer.builder("match.import.stage")
+                    .description("Time spent in each match import stage")
+                    .tag("stage", phase.tag())
+                    .register(registry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        Timer.builder("match.import")
+                .description("Total match import time")
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(totalNanos, TimeUnit.NANOSECONDS);
+
+        Counter.builder("match.import.bytes")
+                .description("Bytes of match archive content read while persisting")
+                .baseUnit("bytes")
+                .register(registry)
+                .increment(trace.getBytesRead());
+
+        Counter.builder("match.import.hash.bytes")
+                .description("Bytes read while hashing match archives for duplicate detection")
+                .baseUnit("bytes")
+                .register(registry)
+                .increment(trace.getHashBytesRead());
+
+        double rowsPerSec = rowsPerSec(trace.totalRows(), totalNanos);
+        if (OUTCOME_SUCCESS.equals(outcome)) {
+            // 실패한 임포트의 행은 롤백되므로 성공한 경우만 셈
+            rows("player").increment(trace.getPlayers());
+            rows("voice_log").increment(trace.getVoiceLogs());
+            rows("game_event").increment(trace.getGameEvents());
+            DistributionSummary.builder("match.import.throughput")
+                    .description("Rows persisted per second for a single import")
+                    .baseUnit("rows/s")
+                    .register(registry)
+                    .record(rowsPerSec);
+        }
+
+        log.info("import.summary outcome={} matchId={} matchCode=\"{}\" totalMs={} hashMs={} unzipMs={} parseMs={}"
+                        + " playerInsertMs={} voiceLogFlushMs={} eventFlushMs={} analyzeMs={}"
+                        + " bytes={} hashBytes={} players={} voiceLogs={} events={} unmatchedVoiceRows={} rowsPerSec={}",
+                outcome, matchId, matchCode, millis(totalNanos),
+                millis(trace.nanos(Phase.HASH)), millis(trace.nanos(Phase.UNZIP)), millis(trace.nanos(Phase.PARSE)),
+                millis(trace.nanos(Phase.PLAYER_INSERT)), millis(trace.nanos(Phase.VOICE_LOG_FLUSH)),
+                millis(trace.nanos(Phase.EVENT_FLUSH)), millis(trace.nanos(Phase.ANALYZE)),
+                trace.getBytesRead(), trace.getHashBytesRead(), trace.getPlayers(), trace.getVoiceLogs(), trace.getGameEvents(),
+                trace.getUnmatchedVoiceRows(), Math.round(rowsPerSec));
+    }
+
+    private Counter rows(String type) {
+        return Counter.builder("match.import.rows")
+                .description("Rows persisted by match imports")
+                .tag("type", type)
+                .register(registry);
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static double rowsPerSec(long rows, long nanos) {
+        return nanos <= 0 ? 0 : rows / (nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,15 @@
+package com.lolcoaching.backend.service;
+
+import lombok.Getter;
+
+/** 동시 임포트 수가 가득 차서 받지 않은 경우 (컨트롤러에서 429 + Retry-After로 변환) */
+@Getter
+public class ImportRejectedException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public ImportRejectedException(int retryAfterSeconds) {
+        super("동시 임포트 수 초과 - " + retryAfterSeconds + "초 후 다시 시도하세요");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
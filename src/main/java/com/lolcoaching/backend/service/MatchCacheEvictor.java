@@ -0,0 +1,36 @@
+package com.lolcoaching.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.lolcoaching.backend.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 경기 데이터가 바뀌면(임포트/지표 재계산 커밋 후) 캐시에서 그 경기 항목만 지웁니다.
+ * 키가 (경기 id, 인자...)라서 @CacheEvict 하나로는 못 지우므로 Caffeine 맵에서 경기 id로 골라 지웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMatchDataChanged(MatchDataChangedEvent event) {
+        evict(event.matchId());
+    }
+
+    public void evict(Long matchId) {
+        for (String name : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache cache) {
+                Cache<Object, Object> nativeCache = cache.getNativeCache();
+                nativeCache.asMap().keySet().removeIf(key ->
+                        key instanceof CacheConfig.MatchKey matchKey && matchId.equals(matchKey.matchId()));
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.lolcoaching.backend.service;
+
+/**
+ * 경기 데이터(로그/지표)가 바뀌었음을 알리는 이벤트.
+ * 트랜잭션 안에서 발행하고, 커밋된 뒤에 캐시(MatchRevisionRegistry 등)가 받아서 비웁니다.
+ */
+public record MatchDataChangedEvent(Long matchId) {
+}
@@ -0,0 +1,99 @@
+package com.lolcoaching.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.lolcoaching.backend.Dto.MatchStreamLine;
+import com.lolcoaching.backend.Dto.PlayerResponseDto;
+import com.lolcoaching.backend.domain.GameMatch;
+import com.lolcoaching.backend.repository.GameMatchRepository;
+import com.lolcoaching.backend.repository.MatchStreamRepository;
+import com.lolcoaching.backend.repository.PlayerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 경기 전체를 NDJSON(한 줄에 JSON 하나)으로 내보내는 서비스.
+ *
+ * getMatchDetail은 로그/이벤트를 List로 전부 만든 뒤 한 번에 직렬화하지만,
+ * 여기서는 JDBC 커서에서 한 행 읽을 때마다 바로 출력 스트림에 씁니다.
+ * 그래서 요청당 서버 메모리는 경기 길이와 상관없이 일정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MatchExportService {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    // 이 줄 수마다 flush (응답이 chunk 단위로 나가도록, 매 줄 flush는 너무 잦음)
+    private static final int FLUSH_EVERY = 500;
+
+    private final GameMatchRepository matchRepository;
+    private final PlayerRepository playerRepository;
+    private final MatchStreamRepository matchStreamRepository;
+    private final ObjectMapper objectMapper;
+
+    public boolean exists(Long matchId) {
+        return matchRepository.existsById(matchId);
+    }
+
+    public void writeNdjson(Long matchId, OutputStream out) throws IOException {
+        GameMatch match = matchRepository.findById(matchId)
+                .orElseThrow(() -> new IllegalArgumentException("매치 없음"));
+
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET) // 응답 스트림은 서블릿 컨테이너가 닫음
+                .withRootValueSeparator("\n")
+                .writeValues(out)) {
+            LineWriter lines = new LineWriter(writer, out);
+
+            Map<String, Object> meta = new LinkedHashMap<>();
+            meta.put("matchId", match.getId());
+            meta.put("matchCode", match.getMatchCode());
+            meta.put("duration", match.getDuration());
+            lines.write("match", meta);
+
+            // 플레이어는 경기당 10명이라 그냥 조회
+            playerRepository.findByGameMatchIdOrderByInGameIdAsc(matchId)
+                    .forEach(p -> lines.write("player", new PlayerResponseDto(p)));
+
+            matchStreamRepository.streamVoiceLogs(matchId, log -> lines.write("voiceLog", log));
+            matchStreamRepository.streamGameEvents(matchId, event -> lines.write("gameEvent", event));
+        } catch (UncheckedIOException e) {
+            throw e.getCause(); // 클라이언트가 중간에 끊은 경우 등
+        }
+        out.write('\n');
+        out.flush();
+    }
+
+    private static class LineWriter {
+        private final SequenceWriter writer;
+        private final OutputStream out;
+        private int count;
+
+        LineWriter(SequenceWriter writer, OutputStream out) {
+            this.writer = writer;
+            this.out = out;
+        }
+
+        void write(String type, Object data) {
+            try {
+                writer.write(new MatchStreamLine(type, data));
+                if (++count % FLUSH_EVERY == 0) {
+                    writer.flush();
+                    out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -4,25 +4,46 @@ import com.lolcoaching.backend.Dto.GameEventResponseDto;
 import com.lolcoaching.backend.Dto.MatchResponseDto;
 import com.lolcoaching.backend.Dto.PlayerResponseDto;
 import com.lolcoaching.backend.Dto.VoiceLogResponseDto;
+import com.lolcoaching.backend.config.CacheConfig;
+import com.lolcoaching.backend.config.ReplicaReadContext;
 import com.lolcoaching.backend.domain.*;
+import com.lolcoaching.backend.importer.ChunkBuffer;
+import com.lolcoaching.backend.importer.CsvRowReader;
+import com.lolcoaching.backend.importer.ImportProgressListener;
+import com.lolcoaching.backend.importer.ImportStage;
+import com.lolcoaching.backend.importer.ImportTrace;
+import com.lolcoaching.backend.importer.ImportTrace.Phase;
+import com.lolcoaching.backend.importer.MatchArchive;
+import com.lolcoaching.backend.importer.MatchFile;
+import com.lolcoaching.backend.importer.MeteredMatchArchive;
+import com.lolcoaching.backend.importer.VoiceRowJoiner;
+import com.lolcoaching.backend.importer.ZipMatchArchive;
 import com.lolcoaching.backend.repository.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.BufferedReader;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MatchImportService {
@@ -32,28 +53,50 @@ public class MatchImportService {
     private final VoiceLogRepository voiceLogRepository;
     private final GameEventRepository gameEventRepository;
     private final PlayerRepository playerRepository;
+    private final MatchBatchWriter batchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final ImportMetrics importMetrics;
+    private final ImportAdmission importAdmission;
 
+    // 임포트 시 한 번에 배치 INSERT할 엔티티 수 (메모리 사용량 상한)
+    @Value("${import.chunk-size:500}")
+    private int chunkSize;
 
     @Transactional(readOnly = true)
     public MatchResponseDto getMatchDetail(Long matchId) {
+        return getMatchDetail(matchId, true);
+    }
+
+    /**
+     * includeVoiceLogs=false 이면 로그는 빼고 메타데이터(경기 정보, 플레이어, 이벤트)만 돌려줍니다.
+     * 로그는 GET /api/matches/{id}/voice-logs 로 보고 있는 구간만 나눠서 받습니다. (VoiceLogService)
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.MATCH_DETAIL, keyGenerator = CacheConfig.MATCH_KEY_GENERATOR)
+    public MatchResponseDto getMatchDetail(Long matchId, boolean includeVoiceLogs) {
+        // 캐시/스냅샷/ETag 응답에 쓰이는 값이라 복제본이 이 경기를 따라잡기 전에는 primary에서 읽음
+        return ReplicaReadContext.forMatch(matchId, () -> loadMatchDetail(matchId, includeVoiceLogs));
+    }
+
+    private MatchResponseDto loadMatchDetail(Long matchId, boolean includeVoiceLogs) {
         GameMatch match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("매치 없음"));
 
+        // ★ 전체 테이블을 읽어서 걸러내지 않고, 경기 단위 인덱스((match_id, 시간) 복합 인덱스)로 이 경기 행만 순서대로 조회
         // 1. 보이스 로그 변환
-        List<VoiceLogResponseDto> voiceLogDtos = voiceLogRepository.findAll().stream()
-                .filter(v -> v.getGameMatch().getId().equals(matchId))
-                .map(VoiceLogResponseDto::new)
-                .toList();
+        List<VoiceLogResponseDto> voiceLogDtos = includeVoiceLogs
+                ? voiceLogRepository.findByGameMatchIdOrderByStartTimeAscIdAsc(matchId).stream()
+                        .map(VoiceLogResponseDto::new)
+                        .toList()
+                : null;
 
         // 2. 플레이어 정보 변환
-        List<PlayerResponseDto> playerDtos = playerRepository.findAll().stream()
-                .filter(p -> p.getGameMatch().getId().equals(matchId))
+        List<PlayerResponseDto> playerDtos = playerRepository.findByGameMatchIdOrderByInGameIdAsc(matchId).stream()
                 .map(PlayerResponseDto::new)
                 .toList();
 
         // 3. 게임 이벤트 변환
-        List<GameEventResponseDto> eventDtos = gameEventRepository.findAll().stream()
-                .filter(e -> e.getGameMatch().getId().equals(matchId))
+        List<GameEventResponseDto> eventDtos = gameEventRepository.findByGameMatchIdOrderByEventTimeAscIdAsc(matchId).stream()
                 .map(GameEventResponseDto::new)
                 .toList();
 
@@ -67,54 +110,126 @@ public class MatchImportService {
                 .build();
     }
 
-    @Transactional
     // ★ String matchCode를 콤마(,) 뒤에 추가해주세요!
+    /**
+     * 요청 스레드에서 바로 임포트하는 동기 업로드.
+     * 동시 임포트 수가 가득 차 있으면 기다리지 않고 ImportRejectedException을 던집니다. (파일도 받기 전에 거절)
+     */
     public Long importMatch(MultipartFile zipFile, String matchCode) throws Exception {
-        GameMatch tempMatch = new GameMatch();
-        List<String[]> infoRows = new ArrayList<>();
-        List<String[]> daRows = new ArrayList<>();
-        List<String[]> korRows = new ArrayList<>();
-        List<String[]> eventRows = new ArrayList<>();
-        List<String[]> timeRows = new ArrayList<>(); // ★ game_time.csv 추가
-
-        boolean hasMeta = false;
-
-        // 1. ZIP 파일 읽기 및 바구니에 담기
-        try (ZipInputStream zis = new ZipInputStream(zipFile.getInputStream())) {
-            ZipEntry entry;
-            while ((entry = zis.getNextEntry()) != null) {
-                if (entry.isDirectory()) continue;
-                String fileName = entry.getName().toLowerCase();
-
-                if (fileName.endsWith(".txt") && fileName.contains("match_")) {
-                    parseMetaFileContent(zis, tempMatch);
-                    hasMeta = true;
+        try (ImportAdmission.Permit permit = importAdmission.tryAcquire()) {
+            // ZIP을 임시 파일로 내려받은 뒤 엔트리 단위로 스트리밍 처리합니다.
+            // (ZipInputStream은 순서대로만 읽을 수 있어서 Player -> Log 순서를 보장하려면 전부 메모리에 담아야 했음)
+            Path tempZip = Files.createTempFile("match-import-", ".zip");
+            try {
+                zipFile.transferTo(tempZip);
+                try (MatchArchive archive = new ZipMatchArchive(tempZip.toFile())) {
+                    return doImport(archive, matchCode, ImportProgressListener.NONE);
                 }
-                else if (fileName.contains("info.csv")) infoRows.addAll(readCsvLines(zis));
-                else if (fileName.contains("da_result.csv")) daRows.addAll(readCsvLines(zis));
-                else if (fileName.contains("asr_result_kor.csv")) korRows.addAll(readCsvLines(zis));
-                else if (fileName.contains("event.csv")) eventRows.addAll(readCsvLines(zis));
-                else if (fileName.contains("game_time.csv")) timeRows.addAll(readCsvLines(zis)); // ★ 추가
-                zis.closeEntry();
+            } finally {
+                Files.deleteIfExists(tempZip);
             }
         }
+    }
 
-        if (!hasMeta) throw new RuntimeException("ZIP 파일 메타데이터 누락");
+    /**
+     * 경기 파일 묶음을 읽으면서 바로 엔티티로 바꿔 chunkSize 단위로 DB에 내려보냅니다.
+     * 어떤 CSV도 통째로 List에 담지 않으므로, 임포트 중 메모리 사용량은 경기 길이가 아니라 chunkSize에 비례합니다.
+     */
+    public Long importMatch(MatchArchive archive, String matchCode) throws Exception {
+        return importMatch(archive, matchCode, ImportProgressListener.NONE);
+    }
+
+    /**
+     * 진행 단계(PERSIST -> ANALYZE)와 저장된 행 수를 listener로 알려주는 버전 (비동기 임포트 작업용)
+     *
+     * ★ 같은 경기를 다시 올리면 무거운 임포트를 하지 않고 기존 매치 ID를 바로 돌려줍니다.
+     * (CSV 내용의 해시를 GameMatch.contentHash에 unique로 저장해두고 비교)
+     * 저장은 경기 단위 트랜잭션 하나로 묶이며, 실패하면 이 경기 데이터만 전부 롤백됩니다.
+     * 단계별 소요 시간/처리량은 성공, 중복, 실패와 상관없이 ImportMetrics로 기록됩니다.
+     * 백그라운드 작업용이라 동시 임포트 수가 가득 차 있으면 자리가 날 때까지 기다립니다. (ImportAdmission)
+     */
+    public Long importMatch(MatchArchive source, String matchCode, ImportProgressListener listener) throws Exception {
+        try (ImportAdmission.Permit permit = importAdmission.acquire()) {
+            return doImport(source, matchCode, listener);
+        }
+    }
+
+    private Long doImport(MatchArchive source, String matchCode, ImportProgressListener listener) throws Exception {
+        if (!source.has(MatchFile.META)) throw new RuntimeException("ZIP 파일 메타데이터 누락");
+
+        ImportTrace trace = new ImportTrace();
+        // 해시 계산과 저장은 각자 원본을 따로 읽으므로 읽은 양도 따로 셈 (처리량은 저장 쪽만)
+        MeteredMatchArchive hashArchive = new MeteredMatchArchive(source);
+        MeteredMatchArchive archive = new MeteredMatchArchive(source);
+        Long matchId = null;
+        String outcome = ImportMetrics.OUTCOME_FAILURE;
+        try {
+            long hashStart = System.nanoTime();
+            String contentHash = hashArchive.contentHash();
+            trace.add(Phase.HASH, System.nanoTime() - hashStart);
+
+            Optional<Long> existing = matchRepository.findIdByContentHash(contentHash);
+            if (existing.isPresent()) {
+                log.info("이미 임포트된 경기입니다. matchId={}", existing.get());
+                matchId = existing.get();
+                outcome = ImportMetrics.OUTCOME_DUPLICATE;
+                return matchId;
+            }
 
-        // 2. 게임 시간(Duration) 처리
-        if (!timeRows.isEmpty()) {
             try {
+                matchId = transactionTemplate.execute(status -> {
+                    try {
+                        return persistMatch(archive, matchCode, contentHash, listener, trace);
+                    } catch (RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new ImportFailedException(e);
+                    }
+                });
+                outcome = ImportMetrics.OUTCOME_SUCCESS;
+                return matchId;
+            } catch (ImportFailedException e) {
+                throw (Exception) e.getCause();
+            } catch (DataIntegrityViolationException e) {
+                // 같은 파일이 동시에 올라와서 다른 쪽이 먼저 커밋한 경우 -> 그 매치를 돌려줌
+                matchId = matchRepository.findIdByContentHash(contentHash).orElseThrow(() -> e);
+                outcome = ImportMetrics.OUTCOME_DUPLICATE;
+                return matchId;
+            }
+        } finally {
+            trace.setHashBytesRead(hashArchive.getBytesRead());
+            trace.setBytesRead(archive.getDistinctBytesRead());
+            importMetrics.record(trace, matchCode, matchId, outcome);
+        }
+    }
+
+    private Long persistMatch(MeteredMatchArchive archive, String matchCode, String contentHash,
+                              ImportProgressListener listener, ImportTrace trace) throws Exception {
+        // 저장 구간 시작 시점 (PARSE = 이 구간 전체 - 읽기 - 각 INSERT)
+        long persistStart = System.nanoTime();
+        long readNanosBefore = archive.getReadNanos();
+
+        GameMatch tempMatch = new GameMatch();
+        tempMatch.setContentHash(contentHash);
+        try (InputStream in = archive.open(MatchFile.META)) {
+            parseMetaFileContent(in, tempMatch);
+        }
+
+        // 1. 게임 시간(Duration) 처리 - 첫 행만 필요
+        if (archive.has(MatchFile.GAME_TIME)) {
+            try (CsvRowReader reader = new CsvRowReader(archive.open(MatchFile.GAME_TIME))) {
+                String[] row = reader.next();
                 // [5]번 인덱스가 duration (ms 단위)
-                tempMatch.setDuration(Long.parseLong(timeRows.get(0)[5].trim()));
+                if (row != null) tempMatch.setDuration(Long.parseLong(row[5].trim()));
             } catch (Exception e) { System.err.println("Duration 파싱 실패"); }
         }
 
-        // 3. 데이터베이스 저장 (순서 중요! Match -> Player -> Logs/Events)
+        // 2. 데이터베이스 저장 (순서 중요! Match -> Player -> Logs/Events)
+        listener.onStage(ImportStage.PERSIST);
 
         // [Step 1] 매치 저장
         GameMatch savedMatch = matchRepository.save(tempMatch);
 
-
         // ★ [수정] 사용자가 입력한 이름을 저장 (없으면 파일명 등 기본값)
         if (matchCode != null && !matchCode.isEmpty()) {
             savedMatch.setMatchCode(matchCode);
@@ -122,38 +237,70 @@ public class MatchImportService {
             savedMatch.setMatchCode("Unknown Match");
         }
 
-
         // [Step 2] 플레이어 저장 및 매핑 준비 (ID 1~10 -> Player 객체)
         // info.csv: [0]Team, [1]PlayerID, [2]SummonerName, [3]Position
-// [Step 2] 플레이어 저장 및 매핑 준비
-        // 3. 플레이어 저장 (포지션 표준화 적용)
         Map<Integer, Player> idToPlayerMap = new HashMap<>();
-        for (String[] row : infoRows) {
-            try {
-                Player player = Player.builder()
-                        .gameMatch(savedMatch)
-                        .inGameId(Integer.parseInt(row[1]))
-                        .team(row[0])
-                        .summonerName(row[2])
-                        .position(standardizePosition(row[3])) // ★ 표준화 함수 적용
-                        .build();
-                playerRepository.save(player);
-                idToPlayerMap.put(player.getInGameId(), player);
-            } catch (Exception e) { /* 에러 처리 */ }
+        List<Player> players = new ArrayList<>();
+        if (archive.has(MatchFile.INFO)) {
+            try (CsvRowReader reader = new CsvRowReader(archive.open(MatchFile.INFO))) {
+                String[] row;
+                while ((row = reader.next()) != null) {
+                    try {
+                        Player player = Player.builder()
+                                .gameMatch(savedMatch)
+                                .inGameId(Integer.parseInt(row[1]))
+                                .team(row[0])
+                                .summonerName(row[2])
+                                .position(standardizePosition(row[3])) // ★ 표준화 함수 적용
+                                .build();
+                        players.add(player);
+                        idToPlayerMap.put(player.getInGameId(), player);
+                    } catch (Exception e) { /* 에러 처리 */ }
+                }
+            }
         }
-        // [Step 3] 음성 로그 저장 (VoiceLog)
-        // da_result.csv: [0]speaker("3-go_ni"), [1]text, [2]start, [3]end, ... [5]act
-        // [Step 3] 음성 로그 저장 (VoiceLog) - 숫자와 라벨 함께 저장
-        List<VoiceLog> voiceLogs = new ArrayList<>();
-        String[] labels = {"I", "Q", "D", "C"}; // 0:I, 1:Q, 2:D, 3:C 매핑
+        // 행마다 save() 하지 않고 한 번에 배치 INSERT (생성된 ID는 각 Player에 채워짐)
+        long playerStart = System.nanoTime();
+        batchWriter.insertPlayers(players);
+        trace.add(Phase.PLAYER_INSERT, System.nanoTime() - playerStart);
+        trace.addPlayers(players.size());
+
+        // [Step 3] 시간 정규화 기준(minTime) 계산
+        // 로그를 저장하기 전에 기준 시간이 필요하므로, da_result.csv의 시간 컬럼만 먼저 한 번 훑습니다.
+        // (행을 보관하지 않고 min/max만 갱신)
+        VoiceTimeRange timeRange = new VoiceTimeRange();
+        forEachVoiceRow(archive, (index, daRow, korRow) -> {
+            try {
+                Integer.parseInt(daRow[5]);
+                if (korRow.length < 2) return;
+                double start = Double.parseDouble(daRow[2]);
+                Double.parseDouble(daRow[3]);
+                timeRange.accept(start);
+            } catch (Exception ignored) { /* 본 단계에서 다시 걸러짐 */ }
+        });
+
+        double minTime = timeRange.minTime();
+
+        // ★★★ [수정] 이미 밀리초이므로 * 1000 제거! ★★★
+        long durationMs = (long) (timeRange.maxTime() - minTime);
+        System.out.println(">> [TimeCheck] Fixed Duration(ms): " + durationMs);
 
-        int minSize = Math.min(daRows.size(), korRows.size());
+        savedMatch.setDuration(durationMs);
+        matchRepository.save(savedMatch);
 
-        for (int i = 0; i < minSize; i++) {
+        // [Step 4] 음성 로그 저장 (VoiceLog) - 숫자와 라벨 함께 저장
+        // da_result.csv: [0]speaker("3-go_ni"), [1]text, [2]start, [3]end, ... [5]act
+        String[] labels = {"I", "Q", "D", "C"}; // 0:I, 1:Q, 2:D, 3:C 매핑
+        ChunkBuffer<VoiceLog> logWriter = new ChunkBuffer<>(chunkSize, chunk -> {
+            long flushStart = System.nanoTime();
+            batchWriter.insertVoiceLogs(chunk);
+            trace.add(Phase.VOICE_LOG_FLUSH, System.nanoTime() - flushStart);
+            trace.addVoiceLogs(chunk.size());
+            listener.onRowsPersisted(chunk.size());
+        });
+
+        VoiceRowJoiner.Result joinResult = forEachVoiceRow(archive, (index, daRow, korRow) -> {
             try {
-                String[] daRow = daRows.get(i);
-                String[] korRow = korRows.get(i);
-
                 int playerId = extractIdFromSpeaker(daRow[0]);
                 Player player = idToPlayerMap.get(playerId);
 
@@ -161,160 +308,157 @@ public class MatchImportService {
                 int actCode = Integer.parseInt(daRow[5]);
                 String actLabel = (actCode >= 0 && actCode < labels.length) ? labels[actCode] : "UNK";
 
+                // 이미 밀리초 단위이므로 minTime만 빼서 정규화
+                double startMs = Math.max(0, Double.parseDouble(daRow[2]) - minTime);
+                double endMs = Math.max(0, Double.parseDouble(daRow[3]) - minTime);
+
                 VoiceLog log = VoiceLog.builder()
                         .gameMatch(savedMatch)
                         .player(player)
-                        .textKor(korRow[1].replace("\"", ""))
-                        .startTime(Double.parseDouble(daRow[2]))
-                        .endTime(Double.parseDouble(daRow[3]))
+                        .textKor(korRow[1]) // 따옴표는 CsvRowReader가 벗겨줌
+                        .startTime(startMs)
+                        .endTime(endMs)
                         .actCode(actCode)    // 숫자 저장 (0, 1, 2, 3)
                         .actLabel(actLabel)  // 문자열 라벨 저장 ("I", "Q", "D", "C")
                         .build();
 
-                voiceLogs.add(log);
+                logWriter.add(log);
             } catch (Exception e) {
-                System.err.println(i + "번째 행 파싱 실패: " + e.getMessage());
+                System.err.println(index + "번째 행 파싱 실패: " + e.getMessage());
             }
+        });
+        logWriter.flush();
+        trace.setUnmatchedVoiceRows(joinResult.unmatched());
+        if (joinResult.unmatched() > 0) {
+            log.warn("da/kor 짝이 맞지 않는 발화 - da {}개, kor {}개 (건너뜀)",
+                    joinResult.unmatchedDa(), joinResult.unmatchedKor());
         }
 
-        // MatchImportService.java
-
-// ... (CSV 파싱 부분은 그대로 유지) ...
-
-// MatchImportService.java 내부
-
-// ... (CSV 파싱 부분 생략) ...
-
-// ==========================================================
-// ★★★ [수정] 이미 밀리초이므로 * 1000 제거! ★★★
-// ==========================================================
-
-// 1. 가장 빠른 시간(minTime) 찾기
-        double minTime = voiceLogs.stream()
-                .mapToDouble(VoiceLog::getStartTime)
-                .filter(t -> t > 0.1)
-                .min()
-                .orElse(0.0);
-
-        double maxTime = voiceLogs.stream()
-                .mapToDouble(VoiceLog::getStartTime)
-                .max()
-                .orElse(0.0);
-
-        if (minTime == 0.0 && !voiceLogs.isEmpty()) {
-            minTime = voiceLogs.get(0).getStartTime();
-        }
-
-// [수정 1] Duration 계산: * 1000 제거
-        long durationMs = (long) (maxTime - minTime);
-
-        System.out.println(">> [TimeCheck] Fixed Duration(ms): " + durationMs);
-// 이제 940,000 (약 15분) 정도로 정상적으로 나올 겁니다.
-
-        savedMatch.setDuration(durationMs);
-        matchRepository.save(savedMatch);
-
-// [수정 2] 음성 로그 시간 정규화: * 1000 제거
-        for (VoiceLog log : voiceLogs) {
-            // 그냥 뺍니다 (이미 밀리초 단위임)
-            double startMs = Math.max(0, log.getStartTime() - minTime);
-            double endMs = Math.max(0, log.getEndTime() - minTime);
-
-            log.setStartTime(startMs);
-            log.setEndTime(endMs);
-        }
-
-        voiceLogRepository.saveAllAndFlush(voiceLogs);
-
-
-// [Step 4] 게임 이벤트 저장 (GameEvent)
-        List<GameEvent> gameEvents = new ArrayList<>();
-        Pattern idPattern = Pattern.compile("^(\\d+)");
-
-        for (String[] row : eventRows) {
-            try {
-                if (row.length < 2) continue;
-
-                GameEvent event = new GameEvent();
-                event.setGameMatch(savedMatch);
-                event.setEventName(row[0]); // 예: ChampionKill
-
-                // 1. 시간 파싱 및 정규화
-                if (row[1] != null && !row[1].isEmpty()) {
+        // [Step 5] 게임 이벤트 저장 (GameEvent)
+        ChunkBuffer<GameEvent> eventWriter = new ChunkBuffer<>(chunkSize, chunk -> {
+            long flushStart = System.nanoTime();
+            batchWriter.insertGameEvents(chunk);
+            trace.add(Phase.EVENT_FLUSH, System.nanoTime() - flushStart);
+            trace.addGameEvents(chunk.size());
+            listener.onRowsPersisted(chunk.size());
+        });
+        if (archive.has(MatchFile.EVENT)) {
+            Pattern idPattern = Pattern.compile("^(\\d+)");
+
+            try (CsvRowReader reader = new CsvRowReader(archive.open(MatchFile.EVENT))) {
+                String[] row;
+                while ((row = reader.next()) != null) {
                     try {
-                        double rawTime = Double.parseDouble(row[1]);
-                        // (이미 밀리초라면 *1000 제거, 초 단위라면 *1000 유지 - 현재 코드 기준 *1 유지)
-                        double normalizedTimeMs = Math.max(0, rawTime - minTime);
-                        event.setEventTime((long) normalizedTimeMs);
-                    } catch (NumberFormatException e) {
-                        event.setEventTime(0L);
+                        if (row.length < 2) continue;
+
+                        GameEvent event = new GameEvent();
+                        event.setGameMatch(savedMatch);
+                        event.setEventName(row[0]); // 예: ChampionKill
+
+                        // 1. 시간 파싱 및 정규화
+                        if (row[1] != null && !row[1].isEmpty()) {
+                            try {
+                                double rawTime = Double.parseDouble(row[1]);
+                                // (이미 밀리초라면 *1000 제거, 초 단위라면 *1000 유지 - 현재 코드 기준 *1 유지)
+                                double normalizedTimeMs = Math.max(0, rawTime - minTime);
+                                event.setEventTime((long) normalizedTimeMs);
+                            } catch (NumberFormatException e) {
+                                event.setEventTime(0L);
+                            }
+                        }
+
+                        // event.csv 구조 가정: [0]Event, [1]Time, [2]Killer, [3]Victim, ...
+
+                        // 2. Killer ID 추출 (3번째 컬럼)
+                        if (row.length > 2 && row[2] != null && !row[2].isEmpty()) {
+                            Matcher kMatcher = idPattern.matcher(row[2].trim());
+                            if (kMatcher.find()) {
+                                try {
+                                    event.setKillerId(Long.parseLong(kMatcher.group(1)));
+                                } catch (NumberFormatException e) { /* 무시 */ }
+                            }
+                        }
+
+                        // 3. Victim ID 추출 (4번째 컬럼)
+                        if (row.length > 3 && row[3] != null && !row[3].isEmpty()) {
+                            Matcher vMatcher = idPattern.matcher(row[3].trim());
+                            if (vMatcher.find()) {
+                                try {
+                                    event.setVictimId(Long.parseLong(vMatcher.group(1)));
+                                } catch (NumberFormatException e) { /* 무시 */ }
+                            }
+                        }
+
+                        eventWriter.add(event);
+
+                    } catch (Exception e) {
+                        System.err.println("이벤트 파싱 중 오류 발생: " + e.getMessage());
                     }
                 }
-
-                // ★★★ [추가된 부분] Killer ID & Victim ID 파싱 ★★★
-                // event.csv 구조 가정: [0]Event, [1]Time, [2]Killer, [3]Victim, ...
-
-                // 2. Killer ID 추출 (3번째 컬럼)
-                if (row.length > 2 && row[2] != null && !row[2].isEmpty()) {
-                    Matcher kMatcher = idPattern.matcher(row[2].trim());
-                    if (kMatcher.find()) {
-                        try {
-                            event.setKillerId(Long.parseLong(kMatcher.group(1)));
-                        } catch (NumberFormatException e) { /* 무시 */ }
-                    }
-                }
-
-                // 3. Victim ID 추출 (4번째 컬럼)
-                if (row.length > 3 && row[3] != null && !row[3].isEmpty()) {
-                    Matcher vMatcher = idPattern.matcher(row[3].trim());
-                    if (vMatcher.find()) {
-                        try {
-                            event.setVictimId(Long.parseLong(vMatcher.group(1)));
-                        } catch (NumberFormatException e) { /* 무시 */ }
-                    }
-                }
-
-                gameEvents.add(event);
-
-            } catch (Exception e) {
-                System.err.println("이벤트 파싱 중 오류 발생: " + e.getMessage());
             }
         }
+        eventWriter.flush();
 
-        gameEventRepository.saveAllAndFlush(gameEvents);
-
-// ... (이후 분석 서비스 호출) ...
+        long unzipNanos = archive.getReadNanos() - readNanosBefore;
+        trace.add(Phase.UNZIP, unzipNanos);
+        trace.add(Phase.PARSE, System.nanoTime() - persistStart - unzipNanos - trace.nanos(Phase.PLAYER_INSERT)
+                - trace.nanos(Phase.VOICE_LOG_FLUSH) - trace.nanos(Phase.EVENT_FLUSH));
 
-// [Step 5] 분석 서비스 호출
-        System.out.println(">> [MatchImportService] 네트워크 지표 분석 시작...");
+        // [Step 6] 분석 서비스 호출 (저장/분석 결과 요약은 ImportMetrics가 한 줄로 남김)
+        listener.onStage(ImportStage.ANALYZE);
+        long analyzeStart = System.nanoTime();
         networkMetricService.analyzeAndSaveMetrics(savedMatch.getId());
-        System.out.println(">> [MatchImportService] 네트워크 지표 분석 완료!");
+        trace.add(Phase.ANALYZE, System.nanoTime() - analyzeStart);
 
         return savedMatch.getId();
+    }
+
+    // --- Helper Methods ---
 
+    // da_result.csv와 asr_result_kor.csv를 (speaker, start, end)로 짝지어 넘겨줌 (줄 번호가 아니라 키로 맞춤)
+    private VoiceRowJoiner.Result forEachVoiceRow(MatchArchive archive, VoiceRowJoiner.Handler handler) throws Exception {
+        if (!archive.has(MatchFile.DA) || !archive.has(MatchFile.KOR)) return new VoiceRowJoiner.Result(0, 0, 0);
 
+        try (CsvRowReader daReader = new CsvRowReader(archive.open(MatchFile.DA));
+             CsvRowReader korReader = new CsvRowReader(archive.open(MatchFile.KOR))) {
+            return new VoiceRowJoiner(daReader, korReader, VoiceRowJoiner.DEFAULT_MAX_LOOKAHEAD).join(handler);
+        }
     }
 
-    // --- Helper Methods ---
+    // 트랜잭션 콜백 안에서 발생한 체크 예외를 밖으로 꺼내기 위한 포장 (RuntimeException이라 롤백됨)
+    private static class ImportFailedException extends RuntimeException {
+        ImportFailedException(Exception cause) {
+            super(cause);
+        }
+    }
+
+    // 시작 시간의 최소/최대값만 누적 (minTime은 0.1보다 큰 값 중 최소, 없으면 첫 로그 시간)
+    private static class VoiceTimeRange {
+        private double min = Double.MAX_VALUE;
+        private double max = 0.0;
+        private Double first;
+        private boolean any;
+
+        void accept(double start) {
+            if (first == null) first = start;
+            if (start > 0.1 && start < min) min = start;
+            if (!any || start > max) max = start;
+            any = true;
+        }
+
+        double minTime() {
+            if (min != Double.MAX_VALUE) return min;
+            return first != null ? first : 0.0;
+        }
 
-    // CSV 파일 읽어서 List<String[]>으로 반환 (공통 함수)
-    private List<String[]> readCsvLines(ZipInputStream zis) throws Exception {
-        List<String[]> list = new ArrayList<>();
-        // ZIP 스트림을 닫지 않도록 감싸기만 함
-        BufferedReader br = new BufferedReader(new InputStreamReader(zis, StandardCharsets.UTF_8));
-        String line;
-        boolean isHeader = true;
-        while ((line = br.readLine()) != null) {
-            if (isHeader) { isHeader = false; continue; }
-            // 정규식으로 쉼표 분리 (따옴표 안의 쉼표 무시)
-            list.add(line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1));
+        double maxTime() {
+            return any ? max : 0.0;
         }
-        return list;
     }
 
     // 메타데이터 파싱
-    private void parseMetaFileContent(ZipInputStream zis, GameMatch match) throws Exception {
-        BufferedReader br = new BufferedReader(new InputStreamReader(zis, StandardCharsets.UTF_8));
+    private void parseMetaFileContent(InputStream in, GameMatch match) throws Exception {
+        BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
         String line = br.readLine();
         if (line != null) match.setMatchCode(line.trim());
     }
@@ -0,0 +1,71 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.Dto.MatchListCursor;
+import com.lolcoaching.backend.Dto.MatchListDto;
+import com.lolcoaching.backend.Dto.MatchListPageDto;
+import com.lolcoaching.backend.repository.MatchListRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 경기 목록(사이드바 탭)을 페이지 단위로 내려주는 서비스.
+ * 경기가 수천 개가 되어도 한 번에 한 페이지(기본 50개)만 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MatchListService {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    /** 정렬: recent = 최근 임포트 순(기본), code = 경기 이름 순 */
+    public enum Sort { RECENT, CODE }
+
+    private final MatchListRepository matchListRepository;
+
+    @Transactional(readOnly = true)
+    public List<MatchListDto> getAll() {
+        return matchListRepository.findAll();
+    }
+
+    /**
+     * @param query  경기 이름 접두어 (비어 있으면 전체)
+     * @param after  이전 페이지의 nextCursor (null이면 첫 페이지, 같은 sort로 받은 값이어야 함)
+     * @throws IllegalArgumentException sort와 맞지 않는 커서
+     */
+    @Transactional(readOnly = true)
+    public MatchListPageDto getPage(String query, Sort sort, MatchListCursor after, Integer limit) {
+        String prefix = query == null || query.isBlank() ? null : query.trim();
+        int pageSize = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        Long afterId = after == null ? null : after.id();
+
+        List<MatchListDto> rows = switch (sort) {
+            case RECENT -> matchListRepository.findRecent(prefix, after == null ? null : parseTime(after.key()), afterId, pageSize);
+            case CODE -> matchListRepository.findByCode(prefix, after == null ? null : after.key(), afterId, pageSize);
+        };
+
+        boolean hasNext = rows.size() > pageSize;
+        List<MatchListDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            MatchListDto last = page.get(page.size() - 1);
+            String key = sort == Sort.RECENT ? last.getImportedAt().toString() : last.getMatchCode();
+            nextCursor = new MatchListCursor(key, last.getId()).encode();
+        }
+        return new MatchListPageDto(page, nextCursor);
+    }
+
+    private static LocalDateTime parseTime(String key) {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("정렬과 맞지 않는 커서", e);
+        }
+    }
+}
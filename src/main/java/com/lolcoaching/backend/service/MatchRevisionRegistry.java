@@ -0,0 +1,66 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.config.ReplicaReadContext;
+import com.lolcoaching.backend.repository.GameMatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경기별 ETag 보관소 (메모리).
+ *
+ * 경기는 임포트 후에는 지표를 다시 계산할 때만 바뀌므로, ETag = 내용 해시 + 리비전으로 정하고
+ * 한 번 읽은 값은 메모리에 둡니다. 그래서 If-None-Match가 맞으면 DB를 전혀 거치지 않고 304를 돌려줄 수 있습니다.
+ * 데이터가 바뀌면 MatchDataChangedEvent(커밋 후)로 해당 경기 항목을 새 값으로 바꿉니다. (임포트 직후 첫 요청도 DB 조회 없음)
+ * 조회 캐시 키(CacheConfig.MatchKey)에도 이 ETag가 들어가므로, ETag가 바뀌는 순간 예전 캐시 값은 더 이상 안 보입니다.
+ * 커밋 전에 읽기 시작한 조회가 늦게 끝나도 리비전이 더 낮은 ETag로 되돌리지 않습니다.
+ *
+ * (서버 한 대 기준. 여러 대로 늘리면 이벤트를 다른 서버에도 전달해야 함)
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchRevisionRegistry {
+
+    private final GameMatchRepository matchRepository;
+    private final Map<Long, Entry> etags = new ConcurrentHashMap<>();
+
+    private record Entry(String etag, long revision) {}
+
+    /** 없는 경기면 empty (캐시하지 않음 -> 아직 커밋 전인 임포트도 나중에 제대로 보임) */
+    public Optional<String> etagOf(Long matchId) {
+        Entry cached = etags.get(matchId);
+        if (cached != null) return Optional.of(cached.etag());
+        return load(matchId);
+    }
+
+    // 커밋이 끝난 뒤라 새 트랜잭션에서 커밋된 리비전을 다시 읽음
+    // (readOnly가 아니라서 복제본이 아닌 primary에서 읽음 -> 방금 커밋한 값이 보장됨)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onMatchDataChanged(MatchDataChangedEvent event) {
+        load(event.matchId());
+    }
+
+    private Optional<String> load(Long matchId) {
+        // 복제본이 이 경기의 마지막 변경을 아직 못 받았으면 primary에서 읽음 (예전 리비전이 메모리에 남지 않도록)
+        Optional<Entry> loaded = ReplicaReadContext.forMatch(matchId, () -> matchRepository.findRevisionById(matchId))
+                .map(match -> new Entry(etagOf(match), match.getRevision()));
+        if (loaded.isEmpty()) return Optional.empty();
+        // 동시에 읽은 값 중 리비전이 높은 쪽을 남김
+        return Optional.of(etags.merge(matchId, loaded.get(),
+                (current, fresh) -> fresh.revision() >= current.revision() ? fresh : current).etag());
+    }
+
+    // 강한 ETag: "<id>-<내용 해시 앞 16자>-<리비전>" (DB를 새로 만들어 id가 재사용돼도 내용이 다르면 다른 값)
+    private static String etagOf(GameMatchRepository.RevisionView match) {
+        String hash = match.getContentHash() != null ? match.getContentHash().substring(0, 16) : "legacy";
+        return "\"" + match.getId() + "-" + hash + "-" + match.getRevision() + "\"";
+    }
+}
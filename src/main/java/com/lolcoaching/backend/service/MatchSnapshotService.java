@@ -0,0 +1,124 @@
+package com.lolcoaching.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 경기 상세(GET /api/matches/{id}) 응답을 gzip JSON 파일로 미리 만들어 두는 서비스.
+ *
+ * 상세 응답은 임포트 후 지표를 다시 계산할 때만 바뀌는데, 매 요청마다 엔티티 로딩 + DTO 변환 + JSON 직렬화를 반복했습니다.
+ * 리비전마다 첫 요청 때 한 번만 만들어 두고, 그 뒤 요청 때는 파일 바이트를 그대로 보냅니다.
+ * 데이터가 바뀌면(MatchDataChangedEvent, 임포트 포함) 이전 파일만 지웁니다. (임포트 스레드에서 DB를 다시 읽어 만들지 않음)
+ *
+ * 파일 이름에 ETag(내용 해시 + 리비전)를 넣어서, 리비전이 바뀌면 이름부터 달라집니다.
+ * -> 오래된 스냅샷을 잘못 내보낼 일이 없고, 파일이 없으면 그 자리에서 다시 만듭니다.
+ *
+ * gzip 바이트와 일반 JSON은 서로 다른 표현이라 같은 강한 ETag를 쓰면 안 됩니다.
+ * 스냅샷 ETag는 경기 ETag 뒤에 -gz를 붙인 값입니다. ("12-ab12cd34ef56ab78-3" -> "12-ab12cd34ef56ab78-3-gz")
+ */
+@Slf4j
+@Service
+public class MatchSnapshotService {
+
+    private final MatchImportService matchImportService;
+    private final MatchRevisionRegistry matchRevisionRegistry;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path dir;
+
+    public MatchSnapshotService(MatchImportService matchImportService,
+                                MatchRevisionRegistry matchRevisionRegistry,
+                                ObjectMapper objectMapper,
+                                @Value("${snapshot.enabled:true}") boolean enabled,
+                                @Value("${snapshot.dir:snapshots}") Path dir) {
+        this.matchImportService = matchImportService;
+        this.matchRevisionRegistry = matchRevisionRegistry;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.dir = dir;
+    }
+
+    /** 미리 만든 스냅샷 파일 (etag: gzip 표현의 ETag, 경기 ETag + -gz) */
+    public record Snapshot(String etag, Path path, long size) {}
+
+    /**
+     * 현재 리비전의 스냅샷. 파일이 아직 없으면 만들어서 돌려줍니다.
+     * 없는 경기이거나 스냅샷을 끈 경우 empty (-> 기존 DTO 응답으로 처리)
+     */
+    public Optional<Snapshot> snapshotOf(Long matchId) {
+        if (!enabled) return Optional.empty();
+        Optional<String> etag = matchRevisionRegistry.etagOf(matchId);
+        if (etag.isEmpty()) return Optional.empty();
+
+        String gzipEtag = gzipEtagOf(etag.get());
+        Path path = pathOf(gzipEtag);
+        try {
+            if (!Files.exists(path)) write(matchId, path);
+            return Optional.of(new Snapshot(gzipEtag, path, Files.size(path)));
+        } catch (IOException | IllegalArgumentException e) {
+            // 스냅샷은 최적화일 뿐이라 실패해도 요청은 기존 방식으로 처리
+            log.warn("스냅샷 생성 실패 - matchId={}: {}", matchId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 임포트/지표 재계산이 커밋된 뒤 그 경기의 스냅샷 파일을 지웁니다. (파일만 정리, DB 접근 없음)
+     * 새 리비전 스냅샷은 다음 GET에서 snapshotOf가 만듭니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMatchDataChanged(MatchDataChangedEvent event) {
+        if (!enabled) return;
+        deleteAll(event.matchId());
+    }
+
+    // 임시 파일에 다 쓴 다음 이름을 바꿈 -> 읽는 쪽은 항상 완성된 파일만 봄
+    private void write(Long matchId, Path path) throws IOException {
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, "match-" + matchId + "-", ".tmp");
+        try {
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp), 8192)) {
+                objectMapper.writer()
+                        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .writeValue(out, matchImportService.getMatchDetail(matchId, true));
+            }
+            Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private void deleteAll(Long matchId) {
+        if (!Files.isDirectory(dir)) return;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "match-" + matchId + "-*.json.gz")) {
+            for (Path file : files) Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // "12-ab12cd34ef56ab78-3" -> "12-ab12cd34ef56ab78-3-gz"
+    private static String gzipEtagOf(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+
+    // ETag "12-ab12cd34ef56ab78-3-gz" -> match-12-ab12cd34ef56ab78-3-gz.json.gz (ETag가 경기 id로 시작)
+    private Path pathOf(String etag) {
+        return dir.resolve("match-" + etag.replaceAll("[^A-Za-z0-9-]", "") + ".json.gz");
+    }
+}
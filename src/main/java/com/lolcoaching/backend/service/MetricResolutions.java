@@ -0,0 +1,80 @@
+package com.lolcoaching.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 지표 해상도 설정 (metrics.rollup.*)
+ *
+ *  - 기본 해상도 BASE = 10초 (MetricTensor 구간)
+ *  - 더 큰 해상도 (예: 30, 60초) = 10초 구간을 묶어서 만듦 -> BASE의 배수여야 함
+ *  - PHASE(0) = 게임 단계 (경계 초, 예: 840,1500 -> 초반 0~14분 / 중반 14~25분 / 후반 25분~)
+ *
+ * API의 resolution 파라미터는 초 단위 숫자("10", "30", "60") 또는 "phase"
+ */
+@Component
+public class MetricResolutions {
+
+    public static final int BASE = (int) (MetricTensor.WINDOW_MS / 1000);
+    public static final int PHASE = 0;
+
+    private final int[] coarser;
+    private final int[] phaseStarts;
+
+    public MetricResolutions(@Value("${metrics.rollup.resolutions-sec:30,60}") int[] coarser,
+                             @Value("${metrics.rollup.phases-sec:840,1500}") int[] phaseBoundaries) {
+        for (int resolution : coarser) {
+            if (resolution <= BASE || resolution % BASE != 0) {
+                throw new IllegalStateException("metrics.rollup.resolutions-sec는 " + BASE + "초의 배수여야 함: " + resolution);
+            }
+        }
+        for (int i = 0; i < phaseBoundaries.length; i++) {
+            if (phaseBoundaries[i] <= 0 || (i > 0 && phaseBoundaries[i] <= phaseBoundaries[i - 1])) {
+                throw new IllegalStateException("metrics.rollup.phases-sec는 0보다 큰 오름차순이어야 함: "
+                        + Arrays.toString(phaseBoundaries));
+            }
+        }
+        this.coarser = IntStream.of(coarser).sorted().distinct().toArray();
+        // 단계 시작 초: 0 + 경계들
+        this.phaseStarts = IntStream.concat(IntStream.of(0), IntStream.of(phaseBoundaries)).toArray();
+    }
+
+    /** BASE보다 큰 해상도 (오름차순) */
+    int[] coarser() {
+        return coarser;
+    }
+
+    /** 단계별 시작 초 (첫 단계는 0) */
+    int[] phaseStarts() {
+        return phaseStarts;
+    }
+
+    /** 저장되는 모든 해상도 (BASE, 더 큰 해상도들, PHASE) */
+    public List<Integer> all() {
+        return IntStream.concat(IntStream.concat(IntStream.of(BASE), IntStream.of(coarser)), IntStream.of(PHASE))
+                .boxed().toList();
+    }
+
+    /**
+     * API 파라미터 -> 해상도 값
+     * @throws IllegalArgumentException 설정에 없는 해상도
+     */
+    public int parse(String value) {
+        if (value == null || value.isBlank()) return BASE;
+        String v = value.trim().toLowerCase();
+        if (v.equals("phase")) return PHASE;
+        if (v.endsWith("s")) v = v.substring(0, v.length() - 1);
+        try {
+            int resolution = Integer.parseInt(v);
+            if (resolution != PHASE && all().contains(resolution)) return resolution;
+        } catch (NumberFormatException ignored) {
+            // 아래에서 예외
+        }
+        throw new IllegalArgumentException("지원하지 않는 해상도: " + value
+                + " (가능: " + BASE + ", " + Arrays.toString(coarser) + ", phase)");
+    }
+}
@@ -0,0 +1,124 @@
+package com.lolcoaching.backend.service;
+
+import java.util.List;
+
+/**
+ * 한 해상도의 지표 재료: 칸(구간) x 패턴마다 포지션 엣지 횟수 25칸 + count
+ *
+ * 엣지 횟수는 더하기만 하면 되므로 큰 해상도는 작은 해상도 칸을 묶어서(합산) 만듭니다. 로그는 다시 읽지 않음.
+ *   10초(MetricTensor) -> 30초 -> 60초 ..., 10초 -> 게임 단계
+ * 밀도/중앙성은 합친 25칸으로 다시 계산 (PositionGraph) -> 평균이 아니라 그 구간 전체의 그래프 기준 값.
+ * 연결은 10초 구간 안에서만 세므로(기존 정의) 합친 칸도 10초 경계를 넘는 발화 쌍은 포함하지 않습니다.
+ */
+final class MetricRollup {
+
+    private final int resolution;  // 초 (MetricResolutions.PHASE = 게임 단계)
+    private final int[] startSecs; // 칸별 시작 초
+    private final int patterns;
+    private final int[] cells;     // [칸][패턴][25]
+    private final int[] counts;    // [칸][패턴]
+
+    private MetricRollup(int resolution, int[] startSecs, int patterns, int[] cells, int[] counts) {
+        this.resolution = resolution;
+        this.startSecs = startSecs;
+        this.patterns = patterns;
+        this.cells = cells;
+        this.counts = counts;
+    }
+
+    /**
+     * 기본 해상도(10초). count는 패턴이 전체(-1, -1)면 구간 발화 수, 아니면 패턴 연결 횟수 (기존 지표 정의 그대로)
+     */
+    static MetricRollup base(MetricTensor tensor, List<int[]> patterns) {
+        int buckets = tensor.windows();
+        int p = patterns.size();
+        int[] startSecs = new int[buckets];
+        int[] cells = new int[buckets * p * PositionGraph.CELLS];
+        int[] counts = new int[buckets * p];
+
+        for (int w = 0; w < buckets; w++) {
+            startSecs[w] = w * MetricResolutions.BASE;
+            for (int i = 0; i < p; i++) {
+                int sourceDa = patterns.get(i)[0];
+                int targetDa = patterns.get(i)[1];
+                int offset = (w * p + i) * PositionGraph.CELLS;
+                tensor.addCells(cells, offset, w, sourceDa, targetDa);
+
+                if (sourceDa == -1 && targetDa == -1) {
+                    counts[w * p + i] = tensor.logCount(w);
+                } else {
+                    int edges = 0;
+                    for (int c = 0; c < PositionGraph.CELLS; c++) edges += cells[offset + c];
+                    counts[w * p + i] = edges;
+                }
+            }
+        }
+        return new MetricRollup(MetricResolutions.BASE, startSecs, p, cells, counts);
+    }
+
+    /** 이 해상도 칸을 resolution / 현재 해상도 개씩 묶음 (배수가 아니면 IllegalArgumentException) */
+    MetricRollup coarsen(int resolution) {
+        if (this.resolution == MetricResolutions.PHASE || resolution % this.resolution != 0) {
+            throw new IllegalArgumentException(this.resolution + "초 -> " + resolution + "초로 묶을 수 없음");
+        }
+        int factor = resolution / this.resolution;
+        int buckets = (buckets() + factor - 1) / factor;
+        int[] groupOf = new int[buckets()];
+        int[] starts = new int[buckets];
+        for (int b = 0; b < buckets(); b++) groupOf[b] = b / factor;
+        for (int g = 0; g < buckets; g++) starts[g] = startSecs[0] + g * resolution;
+        return regroup(resolution, groupOf, starts);
+    }
+
+    /** 게임 단계로 묶음 (phaseStarts: 단계 시작 초 오름차순, 첫 값 0). 마지막 칸이 속한 단계까지만 만듦 */
+    MetricRollup phases(int[] phaseStarts) {
+        int[] groupOf = new int[buckets()];
+        int phases = 0;
+        for (int b = 0; b < buckets(); b++) {
+            int phase = 0;
+            while (phase + 1 < phaseStarts.length && phaseStarts[phase + 1] <= startSecs[b]) phase++;
+            groupOf[b] = phase;
+            phases = phase + 1;
+        }
+        int[] starts = new int[phases];
+        System.arraycopy(phaseStarts, 0, starts, 0, phases);
+        return regroup(MetricResolutions.PHASE, groupOf, starts);
+    }
+
+    private MetricRollup regroup(int resolution, int[] groupOf, int[] starts) {
+        int[] groupedCells = new int[starts.length * patterns * PositionGraph.CELLS];
+        int[] groupedCounts = new int[starts.length * patterns];
+        for (int b = 0; b < buckets(); b++) {
+            int g = groupOf[b];
+            for (int i = 0; i < patterns; i++) {
+                groupedCounts[g * patterns + i] += counts[b * patterns + i];
+                int from = (b * patterns + i) * PositionGraph.CELLS;
+                int to = (g * patterns + i) * PositionGraph.CELLS;
+                for (int c = 0; c < PositionGraph.CELLS; c++) groupedCells[to + c] += cells[from + c];
+            }
+        }
+        return new MetricRollup(resolution, starts, patterns, groupedCells, groupedCounts);
+    }
+
+    int resolution() {
+        return resolution;
+    }
+
+    int buckets() {
+        return startSecs.length;
+    }
+
+    int startSec(int bucket) {
+        return startSecs[bucket];
+    }
+
+    int count(int bucket, int pattern) {
+        return counts[bucket * patterns + pattern];
+    }
+
+    /** graph를 비우고 칸 하나의 패턴 연결로 채움 */
+    void fill(PositionGraph graph, int bucket, int pattern) {
+        graph.clear();
+        graph.addAll(cells, (bucket * patterns + pattern) * PositionGraph.CELLS);
+    }
+}
@@ -0,0 +1,98 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.domain.VoiceLog;
+
+import java.util.List;
+
+/**
+ * 경기 지표 계산용 카운트 텐서 (로그를 한 번만 훑어서 채움)
+ *
+ *   counts[구간][sourceDa][targetDa][from 포지션 * 5 + to 포지션]
+ *     = 그 10초 구간 안에서 "sourceDa 발화 바로 다음에 targetDa 발화"가 from -> to 로 이어진 횟수
+ *
+ * 예전에는 구간 x 패턴마다 구간 로그를 다시 훑어서 엣지 목록을 만들었는데,
+ * 이제는 텐서를 한 번 채운 뒤 패턴별 텐서 조각(25칸)을 MetricRollup으로 옮겨서 계산합니다.
+ * 그래서 패턴이나 해상도가 늘어도 로그를 다시 읽지 않습니다.
+ *
+ * 예전 계산과 다른 점: 5개 포지션(TOP, JUG, MID, ADC, SUP)이 아닌 선수(UNK 등)가 낀 연결은 세지 않습니다.
+ * 예전에는 그런 연결도 엣지로 들어가서 밀도/중앙성 분모와 패턴 count를 부풀렸습니다. (발화 수 count에는 그대로 포함)
+ * 구간 밀도(RangeDensityIndex)도 같은 기준입니다.
+ */
+final class MetricTensor {
+
+    static final long WINDOW_MS = 10_000;
+
+    // 발화 행위 0:I 1:Q 2:D 3:C, 그 밖의 코드는 마지막 칸 (전체(-1) 집계에만 포함)
+    private static final int DA_CODES = 4;
+    private static final int DA_SLOTS = DA_CODES + 1;
+
+    private final int windows;
+    private final int[] counts;
+    private final int[] logCounts; // 구간별 발화 수 (전체(-1)의 count)
+
+    private MetricTensor(int windows, int[] counts, int[] logCounts) {
+        this.windows = windows;
+        this.counts = counts;
+        this.logCounts = logCounts;
+    }
+
+    /** @param logs 시작 시각 오름차순 (같은 구간의 로그는 연속) */
+    static MetricTensor build(List<VoiceLog> logs) {
+        int n = logs.size();
+        int windows = n == 0 ? 0 : (int) (logs.get(n - 1).getStartTime().longValue() / WINDOW_MS) + 1;
+        int[] counts = new int[windows * DA_SLOTS * DA_SLOTS * PositionGraph.CELLS];
+        int[] logCounts = new int[windows];
+
+        // 직전 로그의 (구간, 행위, 포지션, 플레이어)만 들고 가면서 바로 이어지는 쌍을 셈
+        int prevWindow = -1;
+        int prevDa = 0;
+        byte prevPosition = PositionGraph.UNKNOWN;
+        Long prevPlayerId = null;
+        for (VoiceLog log : logs) {
+            int window = (int) (log.getStartTime().longValue() / WINDOW_MS);
+            int code = log.getActCode();
+            int da = code >= 0 && code < DA_CODES ? code : DA_SLOTS - 1;
+            byte position = log.getPlayer() == null ? PositionGraph.UNKNOWN : PositionGraph.ordinal(log.getPlayer().getPosition());
+            Long playerId = log.getPlayer() == null ? null : log.getPlayer().getId();
+
+            logCounts[window]++;
+            // 같은 구간 + 두 발화자 모두 5개 포지션 + 자기 자신과의 대화가 아닌 경우만 연결
+            if (window == prevWindow && prevPosition != PositionGraph.UNKNOWN && position != PositionGraph.UNKNOWN
+                    && !playerId.equals(prevPlayerId)) {
+                counts[slice(window, prevDa, da) + prevPosition * PositionGraph.NODES + position]++;
+            }
+            prevWindow = window;
+            prevDa = da;
+            prevPosition = position;
+            prevPlayerId = playerId;
+        }
+        return new MetricTensor(windows, counts, logCounts);
+    }
+
+    int windows() {
+        return windows;
+    }
+
+    int logCount(int window) {
+        return logCounts[window];
+    }
+
+    /** 한 구간의 패턴 연결 25칸을 dest[offset..]에 더함 (sourceDa, targetDa가 모두 -1이면 모든 행위 합계) */
+    void addCells(int[] dest, int offset, int window, int sourceDa, int targetDa) {
+        if (sourceDa == -1 && targetDa == -1) {
+            for (int s = 0; s < DA_SLOTS; s++) {
+                for (int t = 0; t < DA_SLOTS; t++) add(dest, offset, slice(window, s, t));
+            }
+        } else if (sourceDa >= 0 && sourceDa < DA_CODES && targetDa >= 0 && targetDa < DA_CODES) {
+            add(dest, offset, slice(window, sourceDa, targetDa));
+        }
+    }
+
+    private void add(int[] dest, int offset, int slice) {
+        for (int cell = 0; cell < PositionGraph.CELLS; cell++) dest[offset + cell] += counts[slice + cell];
+    }
+
+    private static int slice(int window, int sourceDa, int targetDa) {
+        return ((window * DA_SLOTS + sourceDa) * DA_SLOTS + targetDa) * PositionGraph.CELLS;
+    }
+}
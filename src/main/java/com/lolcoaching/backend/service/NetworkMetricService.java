@@ -1,18 +1,21 @@
 package com.lolcoaching.backend.service;
 
+import com.lolcoaching.backend.config.CacheConfig;
+import com.lolcoaching.backend.config.ReplicaReadContext;
 import com.lolcoaching.backend.domain.NetworkMetric;
 import com.lolcoaching.backend.domain.VoiceLog;
+import com.lolcoaching.backend.repository.GameMatchRepository;
+import com.lolcoaching.backend.repository.MatchBatchWriter;
 import com.lolcoaching.backend.repository.NetworkMetricRepository;
 import com.lolcoaching.backend.repository.VoiceLogRepository;
-import lombok.AllArgsConstructor;
-import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -21,6 +24,13 @@ public class NetworkMetricService {
 
     private final VoiceLogRepository voiceLogRepository;
     private final NetworkMetricRepository networkMetricRepository;
+    private final MatchBatchWriter batchWriter;
+    private final GameMatchRepository matchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RangeDensityIndexService rangeDensityIndexService;
+    private final MetricResolutions metricResolutions;
+
+    private static final int METRIC_BATCH_SIZE = 1000;
 
     // 1. PATTERNS 리스트에 전체(-1, -1) 추가
     private static final List<int[]> PATTERNS = Arrays.asList(
@@ -32,59 +42,50 @@ public class NetworkMetricService {
             new int[]{0, 2},
             new int[]{3, 0}
     );
-
+    // 전체 패턴 (실시간 계산 전용)
+    private static final int[] ALL_PATTERN = {-1, -1};
+
+
+    /**
+     * 패턴별 지표 타임라인 (NetworkMetricController /metrics)
+     * sourceDa, targetDa가 모두 -1(전체)이면 저장된 값 대신 실시간 계산 결과
+     * @param resolution 초 단위 해상도 또는 MetricResolutions.PHASE (MetricResolutions.parse로 검증된 값)
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.METRIC_TIMELINE, keyGenerator = CacheConfig.MATCH_KEY_GENERATOR)
+    public List<NetworkMetric> getMetricTimeline(Long matchId, int sourceDa, int targetDa, int resolution) {
+        // 캐시에 들어가는 값이라 복제본이 이 경기를 따라잡기 전에는 primary에서 읽음
+        return ReplicaReadContext.forMatch(matchId, () -> {
+            if (sourceDa == -1 && targetDa == -1) return getCalculatedAllMetrics(matchId, resolution);
+            return networkMetricRepository.findByMatchIdAndResolutionAndSourceDaAndTargetDaOrderByTimeIndexAsc(
+                    matchId, resolution, sourceDa, targetDa);
+        });
+    }
 
     public List<NetworkMetric> getCalculatedAllMetrics(Long matchId) {
+        return getCalculatedAllMetrics(matchId, MetricResolutions.BASE);
+    }
+
+    public List<NetworkMetric> getCalculatedAllMetrics(Long matchId, int resolution) {
         // 1. 해당 매치의 '모든' 로그를 가져옴
         List<VoiceLog> allLogs = voiceLogRepository.findByGameMatchIdOrderByStartTimeAsc(matchId);
 
         if (allLogs.isEmpty()) return Collections.emptyList();
 
-        // 2. 시간대별 그룹핑
-        Map<Integer, List<VoiceLog>> logsByTimeWindow = groupLogsByTimeWindow(allLogs);
-        int lastIndex = logsByTimeWindow.keySet().stream().max(Integer::compareTo).orElse(0);
-
-        List<NetworkMetric> result = new ArrayList<>();
-
-        // 3. 계산
-        for (int i = 0; i <= lastIndex; i++) {
-            List<VoiceLog> windowLogs = logsByTimeWindow.getOrDefault(i, Collections.emptyList());
-
-            // [중요] Density 계산을 위해 Edge 추출은 그대로 유지 (절대 지우면 안 됨)
-            List<Edge> edges = extractAllEdges(windowLogs);
-
-            // ★★★ [수정] 여기가 핵심입니다 ★★★
-            // 기존 코드: int count = edges.size();  (연결된 것만 카운트)
-            // 변경 코드: int count = windowLogs.size(); (말한 건 다 카운트)
-            int count = windowLogs.size();
+        // 2. 로그를 한 번 훑어서 구간 x 패턴 x 포지션 카운트 텐서 채우기 -> 요청한 해상도로 묶기
+        MetricTensor tensor = MetricTensor.build(allLogs);
+        MetricRollup level = rollups(tensor, List.of(ALL_PATTERN)).stream()
+                .filter(r -> r.resolution() == resolution)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 해상도: " + resolution));
 
-            // 지표 계산 (Density는 여전히 edges 기준)
-            double density = computeDensity(edges);
-            double[] centralizations = computeCentralization(edges);
+        List<NetworkMetric> result = new ArrayList<>(level.buckets());
+        PositionGraph graph = new PositionGraph(); // 칸마다 비우고 재사용
 
-            Map<String, Integer> outMap = initRoleMap();
-            Map<String, Integer> inMap = initRoleMap();
-
-            // 레이더 차트용 데이터 (여기도 Edge 기준 유지)
-            for (Edge edge : edges) {
-                outMap.put(edge.from, outMap.getOrDefault(edge.from, 0) + 1);
-                inMap.put(edge.to, inMap.getOrDefault(edge.to, 0) + 1);
-            }
-
-            NetworkMetric metric = NetworkMetric.builder()
-                    .matchId(matchId)
-                    .timeIndex(i)
-                    .sourceDa(-1)
-                    .targetDa(-1)
-                    .count(count) // 여기에 '3' (총 발화량)이 들어갑니다.
-                    .density(density)
-                    .cod(centralizations[0])
-                    .cid(centralizations[1])
-                    .positionDaCounts(mapToString(outMap))
-                    .positionReceiveCounts(mapToString(inMap))
-                    .build();
-
-            result.add(metric);
+        // 3. 계산 (Density 등은 엣지 기준, count는 말한 건 다 카운트 = 구간 발화 수)
+        for (int b = 0; b < level.buckets(); b++) {
+            level.fill(graph, b, 0);
+            result.add(toMetric(matchId, level, b, ALL_PATTERN, level.count(b, 0), graph));
         }
         return result;
     }
@@ -94,244 +95,72 @@ public class NetworkMetricService {
     public void analyzeAndSaveMetrics(Long matchId) {
         // 1. 기존 데이터 삭제 및 로그 로딩
         networkMetricRepository.deleteByMatchId(matchId);
+        // ★ 지표가 바뀌므로 리비전 증가 -> 커밋 후 ETag 캐시 비움 (MatchRevisionRegistry)
+        matchRepository.incrementRevision(matchId);
+        eventPublisher.publishEvent(new MatchDataChangedEvent(matchId));
         List<VoiceLog> logs = voiceLogRepository.findByGameMatchIdOrderByStartTimeAsc(matchId);
 
         if (logs.isEmpty()) return;
 
-        Map<Integer, List<VoiceLog>> logsByTimeWindow = groupLogsByTimeWindow(logs);
-        int lastIndex = logsByTimeWindow.keySet().stream().max(Integer::compareTo).orElse(0);
-
-        List<NetworkMetric> metricsToSave = new ArrayList<>();
-
-        for (int i = 0; i <= lastIndex; i++) {
-            List<VoiceLog> windowLogs = logsByTimeWindow.getOrDefault(i, Collections.emptyList());
-
-            for (int[] pattern : PATTERNS) {
-
-                // ★★★ [이 2줄이 빠지면 에러 납니다!] ★★★
-                int sourceDa = pattern[0]; // 패턴의 앞부분 (예: Q)
-                int targetDa = pattern[1]; // 패턴의 뒷부분 (예: I)
-                // ------------------------------------------
-
-                // 엣지 추출
-                List<Edge> edges = extractEdges(windowLogs, sourceDa, targetDa);
+        // ★ 로그는 여기서 한 번만 훑음 -> 패턴/해상도가 늘어도 텐서 칸만 더 읽음
+        MetricTensor tensor = MetricTensor.build(logs);
+        List<MetricRollup> levels = rollups(tensor, PATTERNS);
 
-                // ★ [수정] 전체(-1)일 경우 조건 없이 모든 연결 추출
-                if (sourceDa == -1 && targetDa == -1) {
-                    edges = extractAllEdges(windowLogs); // 아래에 새로 만들 메서드 호출
-                } else {
-                    edges = extractEdges(windowLogs, sourceDa, targetDa);
-                }
-
-                // 1. 기본 지표 계산
-                int count = edges.size();
-                double density = computeDensity(edges);
-                double[] centralizations = computeCentralization(edges);
-
-                // 2. 포지션별 카운트 집계 (JSON용)
-                Map<String, Integer> outMap = initRoleMap();
-                Map<String, Integer> inMap = initRoleMap();
+        int rows = levels.stream().mapToInt(MetricRollup::buckets).sum() * PATTERNS.size();
+        List<NetworkMetric> metricsToSave = new ArrayList<>(rows);
+        PositionGraph graph = new PositionGraph(); // 칸 x 패턴마다 비우고 재사용
 
-                for (Edge edge : edges) {
-                    outMap.put(edge.from, outMap.getOrDefault(edge.from, 0) + 1);
-                    inMap.put(edge.to, inMap.getOrDefault(edge.to, 0) + 1);
+        for (MetricRollup level : levels) {
+            for (int b = 0; b < level.buckets(); b++) {
+                for (int p = 0; p < PATTERNS.size(); p++) {
+                    level.fill(graph, b, p);
+                    metricsToSave.add(toMetric(matchId, level, b, PATTERNS.get(p), level.count(b, p), graph));
                 }
-
-                String outDetail = mapToString(outMap);
-                String inDetail = mapToString(inMap);
-
-                // 3. 엔티티 생성
-                NetworkMetric metric = NetworkMetric.builder()
-                        .matchId(matchId)
-                        .timeIndex(i)
-                        .sourceDa(sourceDa) // 여기서 변수 사용
-                        .targetDa(targetDa) // 여기서 변수 사용
-                        .count(count)
-                        .density(density)
-                        .cod(centralizations[0])
-                        .cid(centralizations[1])
-                        .positionDaCounts(outDetail)
-                        .positionReceiveCounts(inDetail)
-                        .build();
-
-                metricsToSave.add(metric);
-            }
-        }
-        networkMetricRepository.saveAll(metricsToSave);
-
-
-    }
-
-    // ★ [추가] 모든 연결을 다 뽑는 메서드 (extractEdges 복사해서 조건만 뺌)
-    private List<Edge> extractAllEdges(List<VoiceLog> logs) {
-        List<Edge> edges = new ArrayList<>();
-        if (logs.size() < 2) return edges;
-
-        for (int i = 0; i < logs.size() - 1; i++) {
-            VoiceLog current = logs.get(i);
-            VoiceLog next = logs.get(i + 1);
-
-            // DA 코드 확인(if문)을 없애고 무조건 연결로 간주
-            if (isValidInteraction(current, next)) {
-                edges.add(new Edge(
-                        current.getPlayer().getPosition(),
-                        next.getPlayer().getPosition()
-                ));
             }
         }
-        return edges;
+        // IDENTITY 키라서 saveAll은 행마다 INSERT -> JDBC 배치로 저장
+        batchWriter.insertNetworkMetrics(metricsToSave, METRIC_BATCH_SIZE);
     }
 
-    // =================================================================
-    // 🧮 내부 계산 로직
-    // =================================================================
-
-    private Map<Integer, List<VoiceLog>> groupLogsByTimeWindow(List<VoiceLog> logs) {
-        return logs.stream()
-                .collect(Collectors.groupingBy(log -> {
-                    // StartTime(ms)을 10초(10000ms) 단위 인덱스로 변환
-                    long timeMs = log.getStartTime().longValue();
-                    return (int) (timeMs / 10000);
-                }));
-    }
-
-    private List<Edge> extractEdges(List<VoiceLog> logs, int sourceDa, int targetDa) {
-        List<Edge> edges = new ArrayList<>();
-        if (logs.size() < 2) return edges;
-
-        // 연속된 로그(Chain)를 확인하여 패턴 매칭
-        for (int i = 0; i < logs.size() - 1; i++) {
-            VoiceLog current = logs.get(i);
-            VoiceLog next = logs.get(i + 1);
-
-            if (current.getActCode() == sourceDa && next.getActCode() == targetDa) {
-                // 자기 자신과의 대화 제외 (null 체크 포함)
-                if (isValidInteraction(current, next)) {
-                    // ★ 여기서 중복 체크 없이 무조건 추가함 (Count 계산용)
-                    edges.add(new Edge(
-                            current.getPlayer().getPosition(),
-                            next.getPlayer().getPosition()
-                    ));
-                }
+    /**
+     * 해상도별 재료: 10초 -> 더 큰 해상도 (나눠떨어지는 가장 큰 아래 단계에서 묶음) -> 게임 단계 (10초에서 묶음)
+     */
+    private List<MetricRollup> rollups(MetricTensor tensor, List<int[]> patterns) {
+        MetricRollup base = MetricRollup.base(tensor, patterns);
+        List<MetricRollup> levels = new ArrayList<>();
+        levels.add(base);
+        for (int resolution : metricResolutions.coarser()) {
+            MetricRollup from = base;
+            for (MetricRollup level : levels) {
+                if (resolution % level.resolution() == 0) from = level; // 오름차순이라 마지막이 가장 큼
             }
+            levels.add(from.coarsen(resolution));
         }
-        return edges;
-    }
-
-    private boolean isValidInteraction(VoiceLog current, VoiceLog next) {
-        return current.getPlayer() != null && next.getPlayer() != null &&
-                !current.getPlayer().getId().equals(next.getPlayer().getId());
-    }
-
-    private double computeDensity(List<Edge> edges) {
-        if (edges.isEmpty()) return 0.0;
-
-        // ★ Density 계산 시에만 중복 제거 (distinct)
-        long uniqueEdges = edges.stream().distinct().count();
-
-        // 5명 기준 최대 연결 수 = 10 (Directed라면 20일 수도 있으나, 현재 로직은 10으로 가정)
-        return (double) uniqueEdges / 10.0;
-    }
-
-    private double[] computeCentralization(List<Edge> edges) {
-        if (edges.isEmpty()) return new double[]{0.0, 0.0};
-
-        Map<String, Integer> outDegree = new HashMap<>();
-        Map<String, Integer> inDegree = new HashMap<>();
-
-        // 여기서 totalWeight는 count와 같습니다.
-        int totalWeight = edges.size();
-
-        for (Edge edge : edges) {
-            outDegree.put(edge.from, outDegree.getOrDefault(edge.from, 0) + 1);
-            inDegree.put(edge.to, inDegree.getOrDefault(edge.to, 0) + 1);
-        }
-
-        int maxOut = outDegree.values().stream().mapToInt(Integer::intValue).max().orElse(0);
-        int maxIn = inDegree.values().stream().mapToInt(Integer::intValue).max().orElse(0);
-
-        // 실제 DB에 저장된 포지션 문자열과 정확히 일치해야 합니다. (오타 주의)
-        List<String> allNodes = Arrays.asList("TOP", "JUG", "MID", "ADC", "SUP");
-
-        double sumDiffOut = 0;
-        double sumDiffIn = 0;
-
-        for (String node : allNodes) {
-            sumDiffOut += (maxOut - outDegree.getOrDefault(node, 0));
-            sumDiffIn += (maxIn - inDegree.getOrDefault(node, 0));
-        }
-
-        // Freeman Centralization 변형 공식 사용 중인 것으로 추정
-        double denominator = 4.0 * totalWeight;
-
-        if (denominator == 0) return new double[]{0.0, 0.0};
-
-        return new double[]{ sumDiffOut / denominator, sumDiffIn / denominator };
+        levels.add(base.phases(metricResolutions.phaseStarts()));
+        return levels;
     }
 
-    // 엣지 클래스: Density의 distinct()가 제대로 동작하려면 equals/hashCode 필수
-    @AllArgsConstructor
-    @EqualsAndHashCode
-    static class Edge {
-        String from;
-        String to;
+    private NetworkMetric toMetric(Long matchId, MetricRollup level, int bucket, int[] pattern, int count,
+                                   PositionGraph graph) {
+        return NetworkMetric.builder()
+                .matchId(matchId)
+                .resolution(level.resolution())
+                .timeIndex(bucket)
+                .startSec(level.startSec(bucket))
+                .sourceDa(pattern[0]) // 패턴의 앞부분 (예: Q)
+                .targetDa(pattern[1]) // 패턴의 뒷부분 (예: I)
+                .count(count)
+                .density(graph.density())
+                .cod(graph.cod())
+                .cid(graph.cid())
+                .positionDaCounts(graph.outCounts())       // 레이더 차트용 [TOP, JUG, MID, ADC, SUP]
+                .positionReceiveCounts(graph.inCounts())
+                .build();
     }
 
-    // 1. 맵 초기화 (모든 포지션 0으로 세팅)
-    private Map<String, Integer> initRoleMap() {
-        Map<String, Integer> map = new LinkedHashMap<>(); // 순서 보장 (TOP -> JUG -> ...)
-        map.put("TOP", 0);
-        map.put("JUG", 0);
-        map.put("MID", 0);
-        map.put("ADC", 0);
-        map.put("SUP", 0);
-        return map;
-    }
-
-    // 2. 맵을 문자열로 변환 (DB 저장용: "TOP:1,JUG:0...")
-    private String mapToString(Map<String, Integer> map) {
-        return map.entrySet().stream()
-                .map(e -> e.getKey() + ":" + e.getValue())
-                .collect(Collectors.joining(","));
-    }
-
-    // ★ [신규 추가] 시간 범위 내 로그를 다시 조회해서 "누적 밀도" 계산
+    // ★ [신규 추가] 시간 범위 [startSec, endSec]의 "누적 밀도" 계산
+    // 로그를 다시 읽지 않고 임포트 때 만든 색인에 OR 질의 한 번 (RangeDensityIndex)
     public double calculateRangeDensity(Long matchId, int startSec, int endSec, int sourceDa, int targetDa) {
-
-        // 1. 해당 매치의 모든 로그 가져오기 (DB 최적화를 위해선 시간 조건도 쿼리에 넣는 게 좋지만, 일단은 필터링으로 구현)
-        List<VoiceLog> allLogs = voiceLogRepository.findByGameMatchIdOrderByStartTimeAsc(matchId);
-
-        // 2. 시간 범위 & DA 패턴 필터링
-        List<VoiceLog> filteredLogs = allLogs.stream()
-                .filter(log -> {
-                    long sec = (long) (log.getStartTime() / 1000); // ms -> sec 변환
-                    boolean timeCondition = (sec >= startSec && sec <= endSec);
-
-                    // 전체(-1)이면 시간만 보고, 아니면 DA 코드도 확인
-                    boolean daCondition = (sourceDa == -1 && targetDa == -1)
-                            ? true
-                            : (log.getActCode() == sourceDa || log.getActCode() == targetDa); // 주의: 이 부분은 단순 필터링이고, 실제 연결 확인은 아래에서 함
-
-                    return timeCondition;
-                })
-                .collect(Collectors.toList());
-
-        // 3. 엣지 추출 (패턴에 맞는 연결만 뽑아내기)
-        List<Edge> edges;
-        if (sourceDa == -1 && targetDa == -1) {
-            edges = extractAllEdges(filteredLogs); // 아까 만든 전체 추출 메서드 재활용
-        } else {
-            edges = extractEdges(filteredLogs, sourceDa, targetDa); // 특정 패턴 추출 메서드 재활용
-        }
-
-        // 4. ★★★ [핵심] 중복 제거 (Distinct) ★★★
-        // 10분 동안 TOP-JUG가 100번 말했어도, Unique Edge는 1개로 침!
-        long uniqueEdges = edges.stream().distinct().count();
-
-        // 5. 밀도 계산 (최대 연결 가능 수 10개 기준)
-        // 소수점 첫째 자리까지만 깔끔하게 나오도록 처리
-        double density = (double) uniqueEdges / 10.0;
-
-        return Math.min(density, 1.0); // 1.0을 넘을 순 없으므로 안전장치
+        return rangeDensityIndexService.density(matchId, startSec, endSec, sourceDa, targetDa);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,127 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.domain.PositionCounts;
+
+import java.util.Arrays;
+
+/**
+ * 5개 포지션 고정 방향 그래프 (지표 계산 전용, 박싱/해시 없음)
+ *
+ *  - 포지션 = byte 번호 0..4 (TOP, JUG, MID, ADC, SUP)
+ *  - 엣지 from -> to = 칸 번호 from * 5 + to
+ *  - counts[25]: 칸별 연결 횟수, mask: 한 번이라도 연결된 칸의 25비트 마스크
+ *
+ * 구간마다 새로 만들지 않고 clear() 후 다시 채워서 씁니다. (구간 루프 안에서 할당 없음)
+ */
+final class PositionGraph {
+
+    static final int NODES = 5;
+    static final int CELLS = NODES * NODES;
+    static final byte UNKNOWN = -1;
+
+    // 5명 기준 최대 연결 수 (현재 로직은 무방향 10개로 가정)
+    private static final double MAX_EDGES = 10.0;
+
+    private final int[] counts = new int[CELLS];
+    private int mask;
+    private int edges;
+
+    /** 포지션 문자열 -> 번호 (MatchImportService.standardizePosition 결과 기준, 5개 포지션이 아니면 UNKNOWN: 그래프에 넣지 않음) */
+    static byte ordinal(String position) {
+        if (position == null) return UNKNOWN;
+        return switch (position) {
+            case "TOP" -> 0;
+            case "JUG" -> 1;
+            case "MID" -> 2;
+            case "ADC" -> 3;
+            case "SUP" -> 4;
+            default -> UNKNOWN;
+        };
+    }
+
+    void clear() {
+        Arrays.fill(counts, 0);
+        mask = 0;
+        edges = 0;
+    }
+
+    void add(int from, int to) {
+        addCell(from * NODES + to, 1);
+    }
+
+    /** 다른 곳에 저장된 25칸 횟수(예: 지표 텐서의 한 조각)를 더함 */
+    void addAll(int[] source, int offset) {
+        for (int cell = 0; cell < CELLS; cell++) {
+            int c = source[offset + cell];
+            if (c != 0) addCell(cell, c);
+        }
+    }
+
+    private void addCell(int cell, int times) {
+        counts[cell] += times;
+        mask |= 1 << cell;
+        edges += times;
+    }
+
+    /** 연결 횟수 (같은 쌍이 여러 번이면 여러 번) */
+    int edgeCount() {
+        return edges;
+    }
+
+    /** 서로 다른 from -> to 쌍 수 / 10 */
+    double density() {
+        return Integer.bitCount(mask) / MAX_EDGES;
+    }
+
+    int outDegree(int node) {
+        int sum = 0;
+        for (int to = 0; to < NODES; to++) sum += counts[node * NODES + to];
+        return sum;
+    }
+
+    int inDegree(int node) {
+        int sum = 0;
+        for (int from = 0; from < NODES; from++) sum += counts[from * NODES + node];
+        return sum;
+    }
+
+    /** 발신 중앙성 (Freeman 변형: Σ(최대 - 각 포지션) / (4 x 연결 횟수)) */
+    double cod() {
+        if (edges == 0) return 0.0;
+        int max = 0;
+        int sum = 0;
+        for (int node = 0; node < NODES; node++) {
+            int degree = outDegree(node);
+            max = Math.max(max, degree);
+            sum += degree;
+        }
+        return (NODES * max - sum) / (4.0 * edges);
+    }
+
+    /** 수신 중앙성 */
+    double cid() {
+        if (edges == 0) return 0.0;
+        int max = 0;
+        int sum = 0;
+        for (int node = 0; node < NODES; node++) {
+            int degree = inDegree(node);
+            max = Math.max(max, degree);
+            sum += degree;
+        }
+        return (NODES * max - sum) / (4.0 * edges);
+    }
+
+    /** 포지션별 발신 횟수 (DB 저장용, 순서 = 포지션 번호) */
+    PositionCounts outCounts() {
+        int[] degrees = new int[NODES];
+        for (int node = 0; node < NODES; node++) degrees[node] = outDegree(node);
+        return PositionCounts.of(degrees);
+    }
+
+    /** 포지션별 수신 횟수 */
+    PositionCounts inCounts() {
+        int[] degrees = new int[NODES];
+        for (int node = 0; node < NODES; node++) degrees[node] = inDegree(node);
+        return PositionCounts.of(degrees);
+    }
+}
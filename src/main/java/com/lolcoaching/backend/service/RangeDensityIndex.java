@@ -0,0 +1,125 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.repository.VoiceLogRepository.InteractionRow;
+
+import java.util.List;
+
+/**
+ * 구간 누적 밀도(calculateRangeDensity) 색인 - 경기 하나, 불변
+ *
+ * 로그를 시각순으로 놓으면 [start초, end초] 안의 로그는 연속된 구간 [lo, hi]이고,
+ * 그 안에서 이어지는 발화 쌍은 쌍 번호 lo .. hi-1 입니다.
+ * 쌍마다 PositionGraph 칸 하나(= 25비트 마스크의 비트 하나)를 세그먼트 트리에 넣어두면
+ * "구간 안의 서로 다른 엣지" = 트리 OR 질의 한 번 (O(log n)), 밀도 = bitCount / 10.
+ *
+ * 트리는 전체(-1, -1) 하나 + 경기에 실제로 나온 발화 행위 쌍(0..3 x 0..3)마다 하나.
+ */
+public final class RangeDensityIndex {
+
+    private static final int DA_CODES = 4;
+    private static final int ALL = DA_CODES * DA_CODES; // trees[16] = 전체 패턴
+
+    private final long[] secs;   // 로그별 시작 시각 (초, 오름차순)
+    private final int[][] trees; // 패턴별 세그먼트 트리 (잎 = 쌍 마스크, 없는 패턴은 null)
+    private final int pairs;
+
+    private RangeDensityIndex(long[] secs, int[][] trees, int pairs) {
+        this.secs = secs;
+        this.trees = trees;
+        this.pairs = pairs;
+    }
+
+    /** @param rows 시작 시각 오름차순 */
+    static RangeDensityIndex build(List<InteractionRow> rows) {
+        int n = rows.size();
+        int pairs = Math.max(n - 1, 0);
+        long[] secs = new long[n];
+        int[][] trees = new int[ALL + 1][];
+
+        for (int i = 0; i < n; i++) {
+            InteractionRow current = rows.get(i);
+            secs[i] = (long) (current.getStartTime() / 1000); // ms -> sec 변환
+            if (i == 0) continue;
+
+            InteractionRow prev = rows.get(i - 1);
+            int bit = edgeBit(prev, current);
+            if (bit == 0) continue;
+
+            int leaf = pairs + i - 1;
+            tree(trees, ALL, pairs)[leaf] = bit;
+            int pattern = pattern(prev.getActCode(), current.getActCode());
+            if (pattern >= 0) tree(trees, pattern, pairs)[leaf] = bit;
+        }
+        // 잎(pairs..2*pairs-1)에서 위로 OR를 채움 (1번이 루트)
+        for (int[] tree : trees) {
+            if (tree == null) continue;
+            for (int node = pairs - 1; node > 0; node--) tree[node] = tree[2 * node] | tree[2 * node + 1];
+        }
+        return new RangeDensityIndex(secs, trees, pairs);
+    }
+
+    /** 시간 범위 [startSec, endSec] 안에서 sourceDa -> targetDa로 이어진 서로 다른 엣지 수 / 10 (최대 1.0) */
+    double density(int startSec, int endSec, int sourceDa, int targetDa) {
+        int[] tree = sourceDa == -1 && targetDa == -1 ? trees[ALL] : treeOf(sourceDa, targetDa);
+        if (tree == null) return 0.0;
+
+        int lo = firstAtOrAfter(startSec);      // 범위 안 첫 로그
+        int hi = firstAtOrAfter(endSec + 1L);   // 범위 밖 첫 로그 -> 쌍 [lo, hi - 1)
+        int mask = or(tree, lo, hi - 1);
+        return Math.min(Integer.bitCount(mask) / 10.0, 1.0); // 1.0을 넘을 순 없으므로 안전장치
+    }
+
+    /** 캐시 무게 (저장한 칸 수) */
+    public int weight() {
+        int weight = secs.length;
+        for (int[] tree : trees) if (tree != null) weight += tree.length;
+        return weight;
+    }
+
+    private int[] treeOf(int sourceDa, int targetDa) {
+        int pattern = pattern(sourceDa, targetDa);
+        return pattern < 0 ? null : trees[pattern];
+    }
+
+    // 쌍 [from, to) 마스크 OR (아래에서 위로 올라가는 반복형 세그먼트 트리)
+    private int or(int[] tree, int from, int to) {
+        int mask = 0;
+        for (int l = from + pairs, r = to + pairs; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) mask |= tree[l++];
+            if ((r & 1) == 1) mask |= tree[--r];
+        }
+        return mask;
+    }
+
+    private int firstAtOrAfter(long sec) {
+        int lo = 0;
+        int hi = secs.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (secs[mid] < sec) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // 자기 자신과의 대화 제외 (null 체크 포함), 5개 포지션 밖의 발화자는 엣지 없음
+    private static int edgeBit(InteractionRow current, InteractionRow next) {
+        if (current.getPlayerId() == null || next.getPlayerId() == null
+                || current.getPlayerId().equals(next.getPlayerId())) return 0;
+
+        byte from = PositionGraph.ordinal(current.getPosition());
+        byte to = PositionGraph.ordinal(next.getPosition());
+        if (from == PositionGraph.UNKNOWN || to == PositionGraph.UNKNOWN) return 0;
+        return 1 << (from * PositionGraph.NODES + to);
+    }
+
+    private static int pattern(int sourceDa, int targetDa) {
+        if (sourceDa < 0 || sourceDa >= DA_CODES || targetDa < 0 || targetDa >= DA_CODES) return -1;
+        return sourceDa * DA_CODES + targetDa;
+    }
+
+    private static int[] tree(int[][] trees, int pattern, int pairs) {
+        if (trees[pattern] == null) trees[pattern] = new int[2 * pairs];
+        return trees[pattern];
+    }
+}
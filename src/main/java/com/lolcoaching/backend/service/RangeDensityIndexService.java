@@ -0,0 +1,50 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.config.CacheConfig;
+import com.lolcoaching.backend.config.ReplicaReadContext;
+import com.lolcoaching.backend.repository.VoiceLogRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 경기별 구간 밀도 색인(RangeDensityIndex)을 메모리(CacheConfig.RANGE_INDEX)에 들고 있는 서비스.
+ *
+ * 타임라인 슬라이더를 움직일 때마다 로그 전체를 다시 읽던 calculateRangeDensity를,
+ * 경기마다 첫 질의 때 한 번 만든 색인 질의(DB 안 거침)로 바꿉니다.
+ * 데이터가 바뀌면 MatchCacheEvictor가 지우기만 하고, 다음 질의 때 다시 만듭니다. (TTL로 빠진 경우도 같음)
+ */
+@Service
+public class RangeDensityIndexService {
+
+    private final VoiceLogRepository voiceLogRepository;
+    private final MatchRevisionRegistry matchRevisionRegistry;
+    private final Cache cache;
+
+    public RangeDensityIndexService(VoiceLogRepository voiceLogRepository, MatchRevisionRegistry matchRevisionRegistry,
+                                    CacheManager cacheManager) {
+        this.voiceLogRepository = voiceLogRepository;
+        this.matchRevisionRegistry = matchRevisionRegistry;
+        this.cache = cacheManager.getCache(CacheConfig.RANGE_INDEX);
+    }
+
+    public double density(Long matchId, int startSec, int endSec, int sourceDa, int targetDa) {
+        return indexOf(matchId).density(startSec, endSec, sourceDa, targetDa);
+    }
+
+    private RangeDensityIndex indexOf(Long matchId) {
+        return cache.get(key(matchId), () -> {
+            // 복제본이 이 경기를 따라잡기 전에는 primary에서 읽음 (예전 로그로 만든 색인이 캐시에 남지 않도록)
+            List<VoiceLogRepository.InteractionRow> rows = ReplicaReadContext.forMatch(matchId,
+                    () -> voiceLogRepository.findInteractionsByMatchId(matchId));
+            return RangeDensityIndex.build(rows);
+        });
+    }
+
+    // 경기 ETag가 키에 들어감 -> 커밋 전 로그로 만든 색인이 늦게 들어와도 새 ETag 응답에는 안 쓰임
+    private CacheConfig.MatchKey key(Long matchId) {
+        return CacheConfig.MatchKey.of(matchRevisionRegistry, matchId, List.of());
+    }
+}
@@ -0,0 +1,135 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.Dto.TranscriptHitDto;
+import com.lolcoaching.backend.domain.VoiceLog;
+import com.lolcoaching.backend.repository.GameMatchRepository;
+import com.lolcoaching.backend.repository.VoiceLogRepository;
+import com.lolcoaching.backend.search.TranscriptIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 경기 대사 검색 (예: "바론", "점멸")
+ *
+ * textKor는 TEXT 컬럼이라 DB에서는 LIKE '%바론%' 전체 스캔밖에 안 되므로,
+ * 메모리 역색인(TranscriptIndex)에서 후보 로그 id를 찾고 그 로그만 id로 읽어옵니다.
+ *  - 임포트 커밋 후(MatchDataChangedEvent) 새 경기만 색인에 추가
+ *  - 색인은 로컬 파일에 이어 붙여 저장 -> 재시작 때 파일만 읽음
+ *  - 파일에 있는 경기가 지금 DB와 다르면(DB 초기화 등) 색인을 비우고 다시 만듦
+ */
+@Slf4j
+@Service
+public class TranscriptSearchService {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+    // 세 글자 이상 검색어는 후보 중 일부가 원문 확인에서 빠지므로 limit보다 넉넉히 후보를 뽑음
+    private static final int CANDIDATE_FACTOR = 4;
+
+    private final GameMatchRepository matchRepository;
+    private final VoiceLogRepository voiceLogRepository;
+    private final TranscriptIndex index;
+
+    public TranscriptSearchService(GameMatchRepository matchRepository,
+                                   VoiceLogRepository voiceLogRepository,
+                                   @Value("${search.index-file:index/transcripts.idx}") Path indexFile) throws IOException {
+        this.matchRepository = matchRepository;
+        this.voiceLogRepository = voiceLogRepository;
+        this.index = TranscriptIndex.open(indexFile);
+        dropIfFromAnotherDatabase();
+        log.info("대사 검색 색인 로드: 경기 {}개, 로그 {}개 ({})", index.matches().size(), index.size(), indexFile.toAbsolutePath());
+    }
+
+    /**
+     * @param query 검색어 (공백은 무시, 두 글자 이상)
+     * @throws IllegalArgumentException 두 글자 미만 검색어
+     */
+    @Transactional(readOnly = true)
+    public List<TranscriptHitDto> search(String query, Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        String needle = TranscriptIndex.normalize(query);
+
+        List<Long> candidates = index.candidates(query, size * CANDIDATE_FACTOR);
+        if (candidates.isEmpty()) return List.of();
+
+        Map<Long, VoiceLog> logs = voiceLogRepository.findByIdIn(candidates).stream()
+                .collect(Collectors.toMap(VoiceLog::getId, Function.identity()));
+        return candidates.stream()
+                .map(logs::get)
+                .filter(log -> log != null && TranscriptIndex.normalize(log.getTextKor()).contains(needle))
+                .limit(size)
+                .map(TranscriptHitDto::new)
+                .toList();
+    }
+
+    // 임포트(지표 계산 포함)가 커밋된 뒤 새 경기면 색인에 추가 (지표 재계산은 대사가 안 바뀌므로 무시됨)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW) // primary에서 읽음 (복제본은 아직 반영 전일 수 있음)
+    public void onMatchDataChanged(MatchDataChangedEvent event) {
+        if (!index.contains(event.matchId())) indexMatch(event.matchId());
+    }
+
+    // 서버가 꺼져 있는 동안 들어온 경기 / 색인 파일이 없던 경우 -> 백그라운드에서 빠진 경기만 색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        Thread worker = new Thread(() -> {
+            List<Long> missing = matchRepository.findAllRevisions().stream()
+                    .map(GameMatchRepository.RevisionView::getId)
+                    .filter(id -> !index.contains(id))
+                    .toList();
+            if (missing.isEmpty()) return;
+            log.info("대사 검색 색인 보충: 경기 {}개", missing.size());
+            for (Long matchId : missing) {
+                try {
+                    indexMatch(matchId);
+                } catch (RuntimeException e) {
+                    log.warn("대사 색인 실패 - matchId={}: {}", matchId, e.getMessage());
+                }
+            }
+        }, "transcript-index-catch-up");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void indexMatch(Long matchId) {
+        matchRepository.findRevisionById(matchId).ifPresent(match -> {
+            List<TranscriptIndex.Doc> docs = voiceLogRepository.findTranscriptByMatchId(matchId).stream()
+                    .map(row -> new TranscriptIndex.Doc(row.getId(), row.getTextKor()))
+                    .toList();
+            try {
+                index.addMatch(matchId, match.getContentHash(), docs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void dropIfFromAnotherDatabase() throws IOException {
+        Map<Long, String> indexed = index.matches();
+        if (indexed.isEmpty()) return;
+        Map<Long, String> current = matchRepository.findAllRevisions().stream()
+                .collect(Collectors.toMap(GameMatchRepository.RevisionView::getId,
+                        m -> m.getContentHash() == null ? "" : m.getContentHash()));
+        boolean stale = indexed.entrySet().stream()
+                .anyMatch(e -> !e.getValue().equals(current.get(e.getKey())));
+        if (stale) {
+            log.info("대사 검색 색인이 현재 DB와 맞지 않아 다시 만듭니다");
+            index.clear();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.Dto.VoiceLogCursor;
+import com.lolcoaching.backend.Dto.VoiceLogPageDto;
+import com.lolcoaching.backend.Dto.VoiceLogResponseDto;
+import com.lolcoaching.backend.config.ReplicaReadContext;
+import com.lolcoaching.backend.domain.VoiceLog;
+import com.lolcoaching.backend.repository.GameMatchRepository;
+import com.lolcoaching.backend.repository.VoiceLogPageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 경기 대사(보이스 로그)를 시간 구간 단위로 나눠서 내려주는 서비스.
+ * 경기 상세(getMatchDetail)는 로그 전체를 한 번에 담아서 긴 스크림이면 응답이 수 MB가 되므로,
+ * 화면에서 보고 있는 구간만 커서로 이어받을 수 있게 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class VoiceLogService {
+
+    public static final int DEFAULT_LIMIT = 200;
+    public static final int MAX_LIMIT = 1000;
+
+    private final GameMatchRepository matchRepository;
+    private final VoiceLogPageRepository voiceLogPageRepository;
+
+    /**
+     * @param from       구간 시작 (ms, 포함, null이면 처음부터)
+     * @param to         구간 끝 (ms, 포함, null이면 끝까지)
+     * @param positions  발화자 포지션 필터 (예: MID, JUG / 비어 있으면 전체)
+     * @param actCodes   발화 행위 필터 (0:I, 1:Q, 2:D, 3:C / 비어 있으면 전체)
+     * @param after      이전 페이지의 nextCursor (null이면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public VoiceLogPageDto getVoiceLogs(Long matchId, Double from, Double to, List<String> positions,
+                                        List<Integer> actCodes, VoiceLogCursor after, Integer limit) {
+        // 경기 ETag와 짝지어 나가는 응답이라 복제본이 이 경기를 따라잡기 전에는 primary에서 읽음
+        return ReplicaReadContext.forMatch(matchId, () -> loadPage(matchId, from, to, positions, actCodes, after, limit));
+    }
+
+    private VoiceLogPageDto loadPage(Long matchId, Double from, Double to, List<String> positions,
+                                     List<Integer> actCodes, VoiceLogCursor after, Integer limit) {
+        if (!matchRepository.existsById(matchId)) throw new IllegalArgumentException("매치 없음");
+
+        int pageSize = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<VoiceLog> rows = voiceLogPageRepository.findPage(matchId, from, to, positions, actCodes, after, pageSize);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<VoiceLog> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            VoiceLog last = page.get(page.size() - 1);
+            nextCursor = new VoiceLogCursor(last.getStartTime(), last.getId()).encode();
+        }
+        return new VoiceLogPageDto(page.stream().map(VoiceLogResponseDto::new).toList(), nextCursor);
+    }
+}
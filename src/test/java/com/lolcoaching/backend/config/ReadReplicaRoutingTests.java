@@ -0,0 +1,158 @@
+package com.lolcoaching.backend.config;
+
+import com.lolcoaching.backend.Dto.MatchListDto;
+import com.lolcoaching.backend.service.MatchDataChangedEvent;
+import com.lolcoaching.backend.service.MatchImportService;
+import com.lolcoaching.backend.service.MatchImportServiceTests;
+import com.lolcoaching.backend.service.MatchListService;
+import com.lolcoaching.backend.service.NetworkMetricService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 복제본 라우팅: H2 두 개를 primary / replica로 씁니다.
+ * 복제는 primary를 SCRIPT로 떠서 replica에 RUNSCRIPT 하는 것으로 흉내 냅니다.
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:replicadb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "datasource.replica.username=sa",
+        "datasource.replica.max-lag-seconds=60",
+        "datasource.replica.check-interval-ms=3600000" // 테스트에서 check()를 직접 호출
+})
+class ReadReplicaRoutingTests {
+
+    @Autowired MatchImportService matchImportService;
+    @Autowired MatchListService matchListService;
+    @Autowired NetworkMetricService networkMetricService;
+    @Autowired ReplicaLagMonitor replicaLagMonitor;
+    @Autowired @Qualifier("primaryDataSource") DataSource primaryDataSource;
+    @Autowired @Qualifier("replicaDataSource") DataSource replicaDataSource;
+
+    @BeforeEach
+    void resetReplica() {
+        new JdbcTemplate(replicaDataSource).execute("DROP ALL OBJECTS"); // 아직 한 번도 복제되지 않은 상태
+    }
+
+    @Test
+    void readOnlyQueriesGoToFreshReplicaAndFallBackWhenItLags() throws Exception {
+        Long matchId = matchImportService.importMatch(
+                MatchImportServiceTests.sampleZip("서버 ID: replica-" + UUID.randomUUID()), "from-primary");
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+
+        // 복제 전: replica에 테이블이 없으므로 읽기는 primary
+        replicaLagMonitor.check();
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(codeOf(matchId)).isEqualTo("from-primary");
+
+        replicate();
+        replicaLagMonitor.check();
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+
+        // replica에만 있는 값이 보이면 replica에서 읽은 것
+        replica.update("update game_match set match_code = 'from-replica' where id = ?", matchId);
+        assertThat(codeOf(matchId)).isEqualTo("from-replica");
+
+        // replica가 오래 뒤처지면 다시 primary
+        replica.update("update replica_heartbeat set beat_at = 0");
+        replicaLagMonitor.check();
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(codeOf(matchId)).isEqualTo("from-primary");
+    }
+
+    @Test
+    void matchChangedAfterReplicatedHeartbeatIsReadFromPrimaryUntilReplicaCatchesUp() throws Exception {
+        Long changed = importMatch("lag-changed");
+        Long untouched = importMatch("lag-untouched");
+        replicaLagMonitor.check(); // 두 임포트 커밋 뒤의 heartbeat
+        replicate();
+        replicaLagMonitor.check();
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.update("update game_match set match_code = concat(match_code, '@replica') where id in (?, ?)",
+                changed, untouched);
+        assertThat(detailCodeOf(changed)).isEqualTo("lag-changed@replica");
+
+        // 복제본이 아직 못 받은 변경 (지표 재계산 -> 리비전 + 1, 캐시 삭제)
+        networkMetricService.analyzeAndSaveMetrics(changed);
+        replicaLagMonitor.check();
+
+        // 전체 지연은 max-lag 안이라 복제본을 쓰지만, 바뀐 경기는 primary에서 읽어서 캐시에 채움
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+        assertThat(replicaLagMonitor.isReplicaUsable(changed)).isFalse();
+        assertThat(detailCodeOf(changed)).isEqualTo("lag-changed");
+        assertThat(detailCodeOf(untouched)).isEqualTo("lag-untouched@replica");
+
+        // 변경 뒤의 heartbeat가 복제본에 보이면 다시 복제본
+        replicate();
+        replicaLagMonitor.check();
+        assertThat(replicaLagMonitor.isReplicaUsable(changed)).isTrue();
+    }
+
+    @Test
+    void heartbeatFromTheSameMillisecondAsTheChangeDoesNotCountAsCaughtUp() throws Exception {
+        Long matchId = importMatch("same-ms");
+        replicaLagMonitor.check();
+        replicate();
+
+        // 변경 기록 앞뒤로 시각이 같을 때만 변경 시각을 정확히 앎
+        long changedAt;
+        while (true) {
+            long before = System.currentTimeMillis();
+            replicaLagMonitor.onMatchDataChanged(new MatchDataChangedEvent(matchId));
+            if (System.currentTimeMillis() == before) {
+                changedAt = before;
+                break;
+            }
+        }
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+
+        // 같은 ms에 잰 heartbeat는 변경 커밋 전에 쓰였을 수 있음
+        replica.update("update replica_heartbeat set beat_at = ?", changedAt);
+        replicaLagMonitor.check();
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+        assertThat(replicaLagMonitor.isReplicaUsable(matchId)).isFalse();
+
+        replica.update("update replica_heartbeat set beat_at = ?", changedAt + 1);
+        replicaLagMonitor.check();
+        assertThat(replicaLagMonitor.isReplicaUsable(matchId)).isTrue();
+    }
+
+    private Long importMatch(String matchCode) throws Exception {
+        return matchImportService.importMatch(
+                MatchImportServiceTests.sampleZip("서버 ID: " + matchCode + "-" + UUID.randomUUID()), matchCode);
+    }
+
+    private String detailCodeOf(Long matchId) {
+        return matchImportService.getMatchDetail(matchId, false).getMatchCode();
+    }
+
+    private String codeOf(Long matchId) {
+        return matchListService.getAll().stream()
+                .filter(m -> m.getId().equals(matchId))
+                .map(MatchListDto::getMatchCode)
+                .findFirst().orElse(null);
+    }
+
+    private void replicate() throws Exception {
+        Path script = Files.createTempFile("replica", ".sql");
+        try {
+            new JdbcTemplate(primaryDataSource).execute("SCRIPT TO '" + script.toAbsolutePath() + "'");
+            JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+            replica.execute("DROP ALL OBJECTS");
+            replica.execute("RUNSCRIPT FROM '" + script.toAbsolutePath() + "'");
+        } finally {
+            Files.deleteIfExists(script);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.lolcoaching.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lolcoaching.backend.service.MatchImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.lolcoaching.backend.service.MatchImportServiceTests.sampleZip;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MatchExportTests {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired MatchImportService matchImportService;
+    @Autowired ObjectMapper objectMapper;
+
+    @Test
+    void streamsWholeMatchAsNdjson() throws Exception {
+        Long matchId = matchImportService.importMatch(sampleZip(), "export");
+
+        MvcResult started = mockMvc.perform(get("/api/matches/" + matchId + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            if (!line.isBlank()) lines.add(objectMapper.readTree(line));
+        }
+        Map<String, Long> countByType = lines.stream()
+                .collect(Collectors.groupingBy(n -> n.get("type").asText(), Collectors.counting()));
+        assertThat(countByType).containsExactlyInAnyOrderEntriesOf(
+                Map.of("match", 1L, "player", 10L, "voiceLog", 466L, "gameEvent", 63L));
+
+        // 상세 API와 같은 내용/순서
+        List<JsonNode> logs = lines.stream().filter(n -> n.get("type").asText().equals("voiceLog"))
+                .map(n -> n.get("data")).toList();
+        var detailLogs = matchImportService.getMatchDetail(matchId).getVoiceLogs();
+        assertThat(logs.get(0).get("textKor").asText()).isEqualTo(detailLogs.get(0).getTextKor());
+        assertThat(logs.get(465).get("logId").asLong()).isEqualTo(detailLogs.get(465).getLogId());
+        assertThat(logs.get(0).get("position").asText()).isEqualTo(detailLogs.get(0).getPosition());
+        assertThat(lines.get(0).get("data").get("duration").asLong()).isPositive();
+    }
+
+    @Test
+    void unknownMatchIs404() throws Exception {
+        mockMvc.perform(get("/api/matches/999999/export")).andExpect(status().isNotFound());
+    }
+}
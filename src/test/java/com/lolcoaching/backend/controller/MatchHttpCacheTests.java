@@ -0,0 +1,81 @@
+package com.lolcoaching.backend.controller;
+
+import com.lolcoaching.backend.service.MatchImportService;
+import com.lolcoaching.backend.service.NetworkMetricService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.lolcoaching.backend.service.MatchImportServiceTests.sampleZip;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 경기 조회 API 조건부 GET
+ * ETag가 맞으면 DB를 거치지 않고 304, 지표를 다시 계산하면 ETag가 바뀌어야 합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class MatchHttpCacheTests {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired MatchImportService matchImportService;
+    @Autowired NetworkMetricService networkMetricService;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    private Statistics stats;
+    private Long matchId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        matchId = matchImportService.importMatch(sampleZip(), "etag");
+        stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void matchingIfNoneMatchIsServedWithoutDatabase() throws Exception {
+        String url = "/api/matches/" + matchId + "/metrics?sourceDa=1&targetDa=0";
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"" + matchId + "-");
+
+        stats.clear();
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mockMvc.perform(get("/api/matches/" + matchId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertThat(stats.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void recomputeChangesEtag() throws Exception {
+        String url = "/api/matches/" + matchId;
+        String before = mockMvc.perform(get(url)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        networkMetricService.analyzeAndSaveMetrics(matchId);
+
+        String after = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(after).isNotNull().isNotEqualTo(before);
+    }
+
+    @Test
+    void unknownMatchIsNotCached() throws Exception {
+        mockMvc.perform(get("/api/matches/999999").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+}
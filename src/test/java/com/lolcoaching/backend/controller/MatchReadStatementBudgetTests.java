@@ -0,0 +1,67 @@
+package com.lolcoaching.backend.controller;
+
+import com.lolcoaching.backend.service.MatchImportService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.lolcoaching.backend.service.MatchImportServiceTests.sampleZip;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조회 API 한 번에 나가는 SQL 수 상한 (Hibernate statistics)
+ *
+ * VoiceLog.player가 LAZY라서, 로그마다 getPlayer()를 부르면 플레이어 수만큼 SELECT가 더 나갑니다(N+1).
+ * 경기 데이터 양과 상관없이 요청당 문장 수가 고정된 예산 안에 있어야 합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class MatchReadStatementBudgetTests {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired MatchImportService matchImportService;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired CacheManager cacheManager;
+
+    private Statistics stats;
+    private Long matchId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        matchId = matchImportService.importMatch(sampleZip(), "budget");
+        stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void matchDetail() throws Exception {
+        // 매치 1 + 로그(플레이어 fetch join) 1 + 플레이어 1 + 이벤트 1
+        assertStatementsWithin(4, "/api/matches/" + matchId);
+    }
+
+    @Test
+    void realtimeAllPatternMetrics() throws Exception {
+        assertStatementsWithin(1, "/api/matches/" + matchId + "/metrics?sourceDa=-1&targetDa=-1");
+    }
+
+    @Test
+    void rangeAnalysis() throws Exception {
+        assertStatementsWithin(1, "/api/matches/" + matchId + "/analysis?start=0&end=600&sourceDa=1&targetDa=0");
+    }
+
+    private void assertStatementsWithin(long budget, String url) throws Exception {
+        // 캐시에 있으면 SQL이 안 나가므로 비우고 DB 경로를 잰다 (임포트 직후 스냅샷 생성이 상세를 캐시에 올림)
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        stats.clear();
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+        assertThat(stats.getPrepareStatementCount()).as(url).isLessThanOrEqualTo(budget);
+    }
+}
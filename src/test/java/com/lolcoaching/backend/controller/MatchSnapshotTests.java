@@ -0,0 +1,122 @@
+package com.lolcoaching.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lolcoaching.backend.service.MatchImportService;
+import com.lolcoaching.backend.service.NetworkMetricService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import static com.lolcoaching.backend.service.MatchImportServiceTests.sampleZip;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 경기 상세 gzip 스냅샷
+ * 첫 요청 때 파일로 만들어 두고 그 뒤로는 DB 없이 나가야 하고, 내용은 기존 JSON 응답과 같아야 합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class MatchSnapshotTests {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired MatchImportService matchImportService;
+    @Autowired NetworkMetricService networkMetricService;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired ObjectMapper objectMapper;
+    @Value("${snapshot.dir}") Path snapshotDir;
+
+    private Statistics stats;
+    private Long matchId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        matchId = matchImportService.importMatch(sampleZip(), "snapshot");
+        stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void gzipSnapshotMatchesJsonAndSkipsDatabase() throws Exception {
+        String url = "/api/matches/" + matchId;
+        mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip")); // 첫 요청에서 스냅샷 생성
+        stats.clear();
+        MockHttpServletResponse gzip = mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                .andReturn().getResponse();
+        assertThat(stats.getPrepareStatementCount()).isZero();
+
+        assertThat(gzip.getStatus()).isEqualTo(200);
+        assertThat(gzip.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzip.getHeader(HttpHeaders.ETAG)).isNotNull();
+
+        byte[] json;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray()))) {
+            json = in.readAllBytes();
+        }
+        String plain = mockMvc.perform(get(url)).andReturn().getResponse().getContentAsString();
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.readTree(plain));
+    }
+
+    @Test
+    void gzipAndPlainJsonHaveSeparateEtags() throws Exception {
+        String url = "/api/matches/" + matchId;
+        MockHttpServletResponse gzip = mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andReturn().getResponse();
+        MockHttpServletResponse plain = mockMvc.perform(get(url)).andReturn().getResponse();
+        String gzipEtag = gzip.getHeader(HttpHeaders.ETAG);
+        String plainEtag = plain.getHeader(HttpHeaders.ETAG);
+        assertThat(gzipEtag).isEqualTo(plainEtag.substring(0, plainEtag.length() - 1) + "-gz\"");
+        assertThat(gzip.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(plain.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+
+        // 다른 표현의 ETag로는 304가 나면 안 됨
+        assertThat(mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, plainEtag)).andReturn().getResponse().getStatus()).isEqualTo(200);
+        assertThat(mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andReturn().getResponse().getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse gzip304 = mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, gzipEtag)).andReturn().getResponse();
+        MockHttpServletResponse plain304 = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, plainEtag))
+                .andReturn().getResponse();
+        assertThat(gzip304.getStatus()).isEqualTo(304);
+        assertThat(plain304.getStatus()).isEqualTo(304);
+        assertThat(gzip304.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(plain304.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    void recomputeReplacesSnapshot() throws Exception {
+        String url = "/api/matches/" + matchId;
+        String before = mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        networkMetricService.analyzeAndSaveMetrics(matchId);
+        // 재계산 커밋 시점에는 이전 파일만 지우고, 새 스냅샷은 다음 요청에서 만듦
+        try (var files = Files.list(snapshotDir)) {
+            assertThat(files.map(p -> p.getFileName().toString()))
+                    .noneMatch(n -> n.startsWith("match-" + matchId + "-"));
+        }
+
+        String after = mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(after).isNotEqualTo(before);
+        try (var files = Files.list(snapshotDir)) {
+            assertThat(files.map(p -> p.getFileName().toString()).filter(n -> n.startsWith("match-" + matchId + "-")))
+                    .containsExactly("match-" + after.replace("\"", "") + ".json.gz");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.lolcoaching.backend.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRowReaderTests {
+
+    @Test
+    void splitsQuotedFieldsWithCommasAndEscapedQuotes() throws Exception {
+        List<String[]> rows = readAll("speaker,text,start\n"
+                + "2-jaemin2119,\"Oh my god, I'm in so much pain!\",5560.0\n"
+                + "1-hye0k_su,\"그냥 \"\"바론\"\" 치자\",6000.0\n"
+                + "3-daving64,,\n");
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0)).containsExactly("2-jaemin2119", "Oh my god, I'm in so much pain!", "5560.0");
+        assertThat(rows.get(1)).containsExactly("1-hye0k_su", "그냥 \"바론\" 치자", "6000.0");
+        assertThat(rows.get(2)).containsExactly("3-daving64", "", "");
+    }
+
+    @Test
+    void stripsBomAndHandlesCrlfAndNewlinesInQuotes() throws Exception {
+        List<String[]> rows = readAll("\uFEFFTeam,PlayerID\r\n"
+                + "BLUE,1\r\n"
+                + "RED,\"6\n7\"\r\n"
+                + "RED,10");
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0)).containsExactly("BLUE", "1");
+        assertThat(rows.get(1)).containsExactly("RED", "6\n7");
+        assertThat(rows.get(2)).containsExactly("RED", "10");
+    }
+
+    @Test
+    void readsRowsLongerThanTheInternalBuffer() throws Exception {
+        String longText = "가".repeat(20_000);
+        List<String[]> rows = readAll("a,b\n1,\"" + longText + "\"\n2,x\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)[1]).isEqualTo(longText);
+        assertThat(rows.get(1)).containsExactly("2", "x");
+    }
+
+    private List<String[]> readAll(String csv) throws Exception {
+        List<String[]> rows = new ArrayList<>();
+        try (CsvRowReader reader = new CsvRowReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+            String[] row;
+            while ((row = reader.next()) != null) rows.add(row);
+        }
+        return rows;
+    }
+}
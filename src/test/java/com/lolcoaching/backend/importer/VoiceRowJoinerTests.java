@@ -0,0 +1,63 @@
+package com.lolcoaching.backend.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoiceRowJoinerTests {
+
+    private static final String HEADER = "speaker,text,start,end,conv_id,act,topic\n";
+
+    @Test
+    void droppedLineDoesNotShiftLaterRows() throws Exception {
+        String da = HEADER
+                + "1-top,a,100.0,200.0,0,0,0\n"
+                + "2-jug,b,300.0,400.0,0,1,0\n"
+                + "3-mid,c,500.0,600.0,0,2,0\n";
+        String kor = HEADER
+                + "1-top,가,100.0,200.0,0,0,0\n"
+                + "3-mid,다,500.0,600.0,0,2,0\n"; // 2-jug 행 누락
+
+        List<String> pairs = new ArrayList<>();
+        VoiceRowJoiner.Result result = join(da, kor, pairs);
+
+        assertThat(pairs).containsExactly("0:a=가", "2:c=다");
+        assertThat(result).isEqualTo(new VoiceRowJoiner.Result(2, 1, 0));
+    }
+
+    @Test
+    void matchesSameStartInDifferentOrderAndIgnoresFloatNoise() throws Exception {
+        String da = HEADER
+                + "1-top,a,510560.0,513680.0,0,0,0\n"
+                + "2-jug,b,510560.0,511000.0,0,0,0\n"
+                + "4-adc,d,520000.0,521000.0,0,0,0\n";
+        String kor = HEADER
+                + "0-extra,x,100.0,150.0,0,0,0\n"
+                + "2-jug,나,510560.0,511000.0,0,0,0\n"
+                + "1-top,가,510559.99999999994,513679.99999999994,0,0,0\n"
+                + "4-adc,라,520000.0,521000.0,0,0,0\n"
+                + "5-sup,마,530000.0,531000.0,0,0,0\n";
+
+        List<String> pairs = new ArrayList<>();
+        VoiceRowJoiner.Result result = join(da, kor, pairs);
+
+        assertThat(pairs).containsExactly("0:a=가", "1:b=나", "2:d=라");
+        assertThat(result).isEqualTo(new VoiceRowJoiner.Result(3, 0, 2));
+    }
+
+    private VoiceRowJoiner.Result join(String da, String kor, List<String> pairs) throws Exception {
+        try (CsvRowReader daReader = reader(da); CsvRowReader korReader = reader(kor)) {
+            return new VoiceRowJoiner(daReader, korReader, VoiceRowJoiner.DEFAULT_MAX_LOOKAHEAD)
+                    .join((index, daRow, korRow) -> pairs.add(index + ":" + daRow[1] + "=" + korRow[1]));
+        }
+    }
+
+    private CsvRowReader reader(String csv) throws Exception {
+        return new CsvRowReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,46 @@
+package com.lolcoaching.backend.importer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ZipMatchArchiveTests {
+
+    @Test
+    void concatenatesEntriesOfTheSameRoleWithoutRepeatedHeaders(@TempDir Path dir) throws Exception {
+        Path zip = dir.resolve("match.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zip))) {
+            put(out, "set1/event.csv", "time,name\n1,first\n2,second");      // 줄바꿈 없이 끝남
+            put(out, "set2/event.csv", "﻿time,name\r\n3,third\r\n");   // BOM + CRLF
+            put(out, "match_a.txt", "A\n");
+            put(out, "match_b.txt", "B\n");
+        }
+
+        try (ZipMatchArchive archive = new ZipMatchArchive(zip.toFile())) {
+            List<String> names = new ArrayList<>();
+            try (CsvRowReader reader = new CsvRowReader(archive.open(MatchFile.EVENT))) {
+                String[] row;
+                while ((row = reader.next()) != null) names.add(row[1]);
+            }
+            assertThat(names).containsExactly("first", "second", "third");
+            assertThat(new String(archive.open(MatchFile.META).readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("B\n");
+        }
+    }
+
+    private static void put(ZipOutputStream out, String name, String content) throws Exception {
+        out.putNextEntry(new ZipEntry(name));
+        OutputStream entry = out;
+        entry.write(content.getBytes(StandardCharsets.UTF_8));
+        out.closeEntry();
+    }
+}
@@ -0,0 +1,53 @@
+package com.lolcoaching.backend.loader;
+
+import com.lolcoaching.backend.repository.GameMatchRepository;
+import com.lolcoaching.backend.service.MatchImportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CsvDataLoaderTests {
+
+    @Autowired MatchImportService matchImportService;
+    @Autowired GameMatchRepository matchRepository;
+
+    @Test
+    void seedsEveryMatchFolderWithTheZipImportParser(@TempDir Path seedDir) throws Exception {
+        // data/ 의 샘플 경기를 경기 폴더 두 개로 복사 (메타데이터만 다르게)
+        copySampleMatch(seedDir.resolve("scrim-1"));
+        copySampleMatch(seedDir.resolve("scrim-2"));
+
+        CsvDataLoader loader = new CsvDataLoader(matchImportService, true, seedDir.toString());
+        SeedDataHealthIndicator health = new SeedDataHealthIndicator(loader);
+        assertThat(health.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        loader.run();
+
+        assertThat(loader.getState()).isEqualTo(CsvDataLoader.State.DONE);
+        assertThat(loader.getTotal()).isEqualTo(2);
+        assertThat(loader.getImported()).isEqualTo(2);
+        assertThat(health.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(matchRepository.findAll())
+                .anySatisfy(m -> assertThat(m.getMatchCode()).isEqualTo("match_scrim-1.txt"));
+    }
+
+    private static void copySampleMatch(Path dir) throws Exception {
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("match_" + dir.getFileName() + ".txt"),
+                "서버 ID: " + UUID.randomUUID(), StandardCharsets.UTF_8);
+        for (File csv : new File("data").listFiles((d, name) -> name.endsWith(".csv"))) {
+            Files.copy(csv.toPath(), dir.resolve(csv.getName()));
+        }
+    }
+}
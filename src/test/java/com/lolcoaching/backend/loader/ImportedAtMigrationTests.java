@@ -0,0 +1,43 @@
+package com.lolcoaching.backend.loader;
+
+import com.lolcoaching.backend.service.MatchImportService;
+import com.lolcoaching.backend.service.MatchImportServiceTests;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ImportedAtMigrationTests {
+
+    @Autowired ImportedAtMigration migration;
+    @Autowired MatchImportService matchImportService;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    void addsColumnWithDefaultAndIndexToOldSchema() throws Exception {
+        Long matchId = matchImportService.importMatch(
+                MatchImportServiceTests.sampleZip("서버 ID: imported-at-" + UUID.randomUUID()), "imported-at");
+
+        // ddl-auto 없이 예전 스키마 그대로인 DB 흉내: imported_at 컬럼과 인덱스가 없음
+        jdbcTemplate.execute("drop index idx_game_match_imported");
+        jdbcTemplate.execute("alter table game_match drop column imported_at");
+
+        migration.migrate();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select imported_at from game_match where id = ?", Timestamp.class, matchId)).isNotNull();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.indexes where index_name = 'IDX_GAME_MATCH_IMPORTED'",
+                Integer.class)).isPositive();
+
+        // 이후 임포트도 그대로 동작 (컬럼 위치가 바뀌어도 엔티티는 이름으로 씀)
+        assertThat(matchImportService.importMatch(
+                MatchImportServiceTests.sampleZip("서버 ID: imported-at-" + UUID.randomUUID()), "after")).isNotNull();
+    }
+}
@@ -0,0 +1,37 @@
+package com.lolcoaching.backend.loader;
+
+import com.lolcoaching.backend.repository.NetworkMetricRepository;
+import com.lolcoaching.backend.service.MatchImportService;
+import com.lolcoaching.backend.service.MatchImportServiceTests;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class MetricRollupBackfillTests {
+
+    @Autowired MetricRollupBackfill backfill;
+    @Autowired MatchImportService matchImportService;
+    @Autowired NetworkMetricRepository networkMetricRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    void recomputesMatchesStoredBeforeRollups() throws Exception {
+        Long matchId = matchImportService.importMatch(
+                MatchImportServiceTests.sampleZip("서버 ID: rollup-" + UUID.randomUUID()), "rollup");
+        // 해상도 행이 생기기 전 상태: 10초 행만 남김
+        jdbcTemplate.update("delete from network_metric where match_id = ? and resolution <> 10", matchId);
+        assertThat(networkMetricRepository.findMatchIdsMissingResolution(60)).contains(matchId);
+
+        assertThat(backfill.run()).isGreaterThanOrEqualTo(1);
+
+        assertThat(networkMetricRepository.findMatchIdsMissingResolution(60)).doesNotContain(matchId);
+        assertThat(networkMetricRepository.findByMatchIdAndResolutionAndSourceDaAndTargetDaOrderByTimeIndexAsc(
+                matchId, 0, 1, 0)).isNotEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.lolcoaching.backend.loader;
+
+import com.lolcoaching.backend.repository.GameMatchRepository;
+import com.lolcoaching.backend.service.MatchImportService;
+import com.lolcoaching.backend.service.MatchImportServiceTests;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PositionCountsMigrationTests {
+
+    @Autowired PositionCountsMigration migration;
+    @Autowired MatchImportService matchImportService;
+    @Autowired GameMatchRepository matchRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    void movesTextCountsIntoIntColumnsAndDropsOldColumns() throws Exception {
+        Long matchId = matchImportService.importMatch(
+                MatchImportServiceTests.sampleZip("서버 ID: migrate-" + UUID.randomUUID()), "migrate");
+        long revision = matchRepository.findRevisionById(matchId).orElseThrow().getRevision();
+
+        // 예전 스키마 흉내: TEXT 컬럼을 다시 만들고 문자열로 채운 행 하나
+        jdbcTemplate.execute("alter table network_metric add column position_da_counts text");
+        jdbcTemplate.execute("alter table network_metric add column position_receive_counts text");
+        Long metricId = jdbcTemplate.queryForObject(
+                "select min(id) from network_metric where match_id = ?", Long.class, matchId);
+        jdbcTemplate.update("update network_metric set position_da_counts = ?, position_receive_counts = ? where id = ?",
+                "TOP:1,JUG:0,MID:5,ADC:2,SUP:0", "TOP:0,JUG:3,MID:x,UNK:4,SUP:1", metricId);
+
+        migration.migrate();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "select out_top, out_mid, out_adc, in_jug, in_mid, in_sup from network_metric where id = ?", metricId);
+        assertThat(row.values()).containsExactly(1, 5, 2, 3, 0, 1);
+        assertThat(matchRepository.findRevisionById(matchId).orElseThrow().getRevision()).isEqualTo(revision + 1);
+        assertThat(jdbcTemplate.queryForList(
+                "select column_name from information_schema.columns where table_name = 'NETWORK_METRIC'"
+                        + " and column_name like 'POSITION_%'")).isEmpty();
+    }
+
+    @Test
+    void addsMissingIntColumnsWhenSchemaIsNotManagedByHibernate() throws Exception {
+        Long matchId = matchImportService.importMatch(
+                MatchImportServiceTests.sampleZip("서버 ID: migrate-noddl-" + UUID.randomUUID()), "migrate");
+
+        // ddl-auto 없이 예전 스키마 그대로인 DB 흉내: int 컬럼 없이 TEXT 컬럼만 있음
+        for (String column : new String[]{"out_top", "out_jug", "out_mid", "out_adc", "out_sup",
+                "in_top", "in_jug", "in_mid", "in_adc", "in_sup"}) {
+            jdbcTemplate.execute("alter table network_metric drop column " + column);
+        }
+        jdbcTemplate.execute("alter table network_metric add column position_da_counts text");
+        jdbcTemplate.execute("alter table network_metric add column position_receive_counts text");
+        Long metricId = jdbcTemplate.queryForObject(
+                "select min(id) from network_metric where match_id = ?", Long.class, matchId);
+        jdbcTemplate.update("update network_metric set position_da_counts = ?, position_receive_counts = ? where id = ?",
+                "TOP:2,JUG:0,MID:0,ADC:0,SUP:7", "TOP:0,JUG:4,MID:0,ADC:0,SUP:0", metricId);
+
+        migration.migrate();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "select out_top, out_sup, in_jug, in_top from network_metric where id = ?", metricId);
+        assertThat(row.values()).containsExactly(2, 7, 4, 0);
+        countColumnsDefaultToZeroForRowsWrittenBeforeTheSplit();
+    }
+
+    @Test
+    void countColumnsDefaultToZeroForRowsWrittenBeforeTheSplit() {
+        // 옛 행만 있는 테이블에 컬럼이 추가될 때 NOT NULL을 만족하려면 DB 기본값이 있어야 함
+        assertThat(jdbcTemplate.queryForList(
+                "select column_default from information_schema.columns where table_name = 'NETWORK_METRIC'"
+                        + " and (column_name like 'OUT_%' or column_name like 'IN_%')", String.class))
+                .hasSize(10)
+                .allMatch("0"::equals);
+    }
+}
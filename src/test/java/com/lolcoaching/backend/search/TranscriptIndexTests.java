@@ -0,0 +1,50 @@
+package com.lolcoaching.backend.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TranscriptIndexTests {
+
+    @TempDir Path dir;
+
+    @Test
+    void findsBigramsAcrossMatchesNewestFirst() throws Exception {
+        TranscriptIndex index = TranscriptIndex.open(dir.resolve("t.idx"));
+        index.addMatch(1, "h1", List.of(new TranscriptIndex.Doc(10, "바론 치자"), new TranscriptIndex.Doc(11, "점멸 없음")));
+        index.addMatch(2, "h2", List.of(new TranscriptIndex.Doc(20, "바론 먹어"), new TranscriptIndex.Doc(21, "론치 바")));
+
+        assertThat(index.candidates("바론", 10)).containsExactly(20L, 10L);
+        assertThat(index.candidates("바론치", 10)).containsExactly(10L);      // 공백 무시
+        assertThat(index.candidates("바론", 1)).containsExactly(20L);
+        assertThat(index.candidates("드래곤", 10)).isEmpty();
+        assertThatThrownBy(() -> index.candidates(" 바 ", 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void reopensFromDiskAndDropsTornTail() throws Exception {
+        Path file = dir.resolve("t.idx");
+        TranscriptIndex index = TranscriptIndex.open(file);
+        index.addMatch(1, "h1", List.of(new TranscriptIndex.Doc(10, "점멸 빠졌어")));
+        index.addMatch(2, "h2", List.of(new TranscriptIndex.Doc(20, "점멸 있어")));
+        long goodSize = Files.size(file);
+
+        // 세 번째 세그먼트를 쓰다가 죽은 상황
+        Files.write(file, new byte[]{0, 0, 1, 0, 42, 42}, StandardOpenOption.APPEND);
+
+        TranscriptIndex reopened = TranscriptIndex.open(file);
+        assertThat(Files.size(file)).isEqualTo(goodSize);
+        assertThat(reopened.matches()).containsOnlyKeys(1L, 2L);
+        assertThat(reopened.candidates("점멸", 10)).containsExactly(20L, 10L);
+
+        reopened.addMatch(3, "h3", List.of(new TranscriptIndex.Doc(30, "점멸 쓸게")));
+        assertThat(TranscriptIndex.open(file).candidates("점멸", 10)).containsExactly(30L, 20L, 10L);
+    }
+}
@@ -0,0 +1,60 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.Dto.BulkImportReportDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "import.bulk.threads=2")
+class BulkImportServiceTests {
+
+    @Autowired BulkImportService bulkImportService;
+
+    @Test
+    void importsEveryMatchInOuterZipAndIsolatesFailures(@TempDir Path dir) throws Exception {
+        byte[] match = MatchImportServiceTests.sampleZip().getBytes();
+        byte[] broken = zipOf("info.csv", "Team,PlayerID\n"); // 메타데이터 없음 -> 실패해야 함
+
+        Path outer = dir.resolve("day3.zip");
+        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(outer))) {
+            add(zos, "day3/T1 vs GEN 1set.zip", match);
+            add(zos, "day3/broken.zip", broken);
+            add(zos, "day3/T1 vs GEN 2set.zip", match);
+        }
+
+        BulkImportReportDto report = bulkImportService.importPath(outer);
+
+        assertThat(report.getTotal()).isEqualTo(3);
+        assertThat(report.getSucceeded()).isEqualTo(2);
+        assertThat(report.getFailed()).isEqualTo(1);
+        assertThat(report.getResults())
+                .extracting(BulkImportReportDto.MatchResult::getSource)
+                .containsExactly("T1 vs GEN 1set.zip", "broken.zip", "T1 vs GEN 2set.zip");
+        assertThat(report.getResults().get(1).getError()).contains("메타데이터");
+        // 같은 내용의 경기 ZIP은 한 번만 임포트됨 (content hash 중복 제거)
+        assertThat(report.getResults().get(2).getMatchId()).isEqualTo(report.getResults().get(0).getMatchId());
+    }
+
+    private static void add(ZipOutputStream zos, String name, byte[] bytes) throws Exception {
+        zos.putNextEntry(new ZipEntry(name));
+        zos.write(bytes);
+        zos.closeEntry();
+    }
+
+    private static byte[] zipOf(String name, String content) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(bytes)) {
+            add(zos, name, content.getBytes());
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,40 @@
+package com.lolcoaching.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImportAdmissionTests {
+
+    @Test
+    void keepsConnectionsReservedForReads() {
+        // 풀 10개 중 조회용 7개를 남기면 임포트는 max-concurrent(4)가 아니라 3개까지
+        ImportAdmission admission = new ImportAdmission(4, 7, 10, 5, new SimpleMeterRegistry());
+        assertThat(admission.getMaxConcurrent()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsFastWhenFullAndAdmitsAgainAfterRelease() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ImportAdmission admission = new ImportAdmission(2, 4, 10, 7, registry);
+
+        ImportAdmission.Permit first = admission.tryAcquire();
+        ImportAdmission.Permit second = admission.acquire();
+        assertThat(admission.getActive()).isEqualTo(2);
+
+        assertThatThrownBy(admission::tryAcquire)
+                .isInstanceOfSatisfying(ImportRejectedException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(7));
+        assertThat(registry.get("match.import.rejected").counter().count()).isEqualTo(1);
+
+        first.close();
+        first.close(); // 두 번 닫아도 한 번만 반납
+        try (ImportAdmission.Permit third = admission.tryAcquire()) {
+            assertThat(admission.getActive()).isEqualTo(2);
+        }
+        second.close();
+        assertThat(admission.getActive()).isZero();
+    }
+}
@@ -0,0 +1,127 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.domain.GameMatch;
+import com.lolcoaching.backend.domain.Player;
+import com.lolcoaching.backend.domain.VoiceLog;
+import com.lolcoaching.backend.repository.GameMatchRepository;
+import com.lolcoaching.backend.repository.MatchBatchWriter;
+import com.lolcoaching.backend.repository.PlayerRepository;
+import com.lolcoaching.backend.repository.VoiceLogRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 임포트 저장 방식 비교 벤치마크 (./gradlew benchmark 로 실행, 기본 test에서는 제외)
+ *
+ * 같은 양의 VoiceLog를
+ *  1) JPA saveAll + flush (IDENTITY라서 행마다 INSERT)
+ *  2) MatchBatchWriter (JDBC 배치)
+ * 로 저장해서 걸린 시간과 INSERT 문장 수를 출력합니다.
+ * H2 인메모리라 네트워크 왕복 비용이 없으므로, 실제 MySQL에서는 차이가 훨씬 더 큽니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ImportBatchBenchmarkTests {
+
+    private static final int ROWS = 20_000;
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired GameMatchRepository matchRepository;
+    @Autowired PlayerRepository playerRepository;
+    @Autowired VoiceLogRepository voiceLogRepository;
+    @Autowired MatchBatchWriter batchWriter;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void compareJpaSaveAllWithJdbcBatch() {
+        // 워밍업 (JIT, 커넥션 풀)
+        runJpa(2_000);
+        runBatch(2_000);
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        stats.clear();
+        long jpaNanos = runJpa(ROWS);
+        long jpaStatements = stats.getPrepareStatementCount();
+
+        long batchNanos = runBatch(ROWS);
+        long batchRoundTrips = (ROWS + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        System.out.printf("[benchmark] VoiceLog %,d rows%n", ROWS);
+        System.out.printf("[benchmark]   JPA saveAll : %6d ms, %,8.0f rows/s, %,d statements%n",
+                jpaNanos / 1_000_000, rowsPerSec(jpaNanos), jpaStatements);
+        System.out.printf("[benchmark]   JDBC batch  : %6d ms, %,8.0f rows/s, %,d batches (chunk %d)%n",
+                batchNanos / 1_000_000, rowsPerSec(batchNanos), batchRoundTrips, CHUNK_SIZE);
+    }
+
+    private long runJpa(int rows) {
+        return timed(() -> {
+            GameMatch match = newMatch();
+            Player player = playerRepository.save(Player.builder().gameMatch(match).inGameId(1).position("MID").build());
+            List<VoiceLog> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (int i = 0; i < rows; i++) {
+                chunk.add(newLog(match, player, i));
+                if (chunk.size() == CHUNK_SIZE) {
+                    voiceLogRepository.saveAllAndFlush(chunk);
+                    chunk.clear();
+                }
+            }
+            voiceLogRepository.saveAllAndFlush(chunk);
+        });
+    }
+
+    private long runBatch(int rows) {
+        return timed(() -> {
+            GameMatch match = newMatch();
+            Player player = Player.builder().gameMatch(match).inGameId(1).position("MID").build();
+            batchWriter.insertPlayers(List.of(player));
+            List<VoiceLog> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (int i = 0; i < rows; i++) {
+                chunk.add(newLog(match, player, i));
+                if (chunk.size() == CHUNK_SIZE) {
+                    batchWriter.insertVoiceLogs(chunk);
+                    chunk.clear();
+                }
+            }
+            batchWriter.insertVoiceLogs(chunk);
+        });
+    }
+
+    private long timed(Runnable work) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> work.run());
+        return System.nanoTime() - start;
+    }
+
+    private GameMatch newMatch() {
+        GameMatch match = new GameMatch();
+        match.setMatchCode("benchmark");
+        return matchRepository.save(match);
+    }
+
+    private VoiceLog newLog(GameMatch match, Player player, int i) {
+        return VoiceLog.builder()
+                .gameMatch(match)
+                .player(player)
+                .startTime(i * 1000.0)
+                .endTime(i * 1000.0 + 500)
+                .textKor("바론 치자 " + i)
+                .actCode(i % 4)
+                .actLabel("I")
+                .build();
+    }
+
+    private double rowsPerSec(long nanos) {
+        return ROWS / (nanos / 1_000_000_000.0);
+    }
+}
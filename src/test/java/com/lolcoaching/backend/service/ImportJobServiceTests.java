@@ -0,0 +1,59 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.importer.ImportStage;
+import com.lolcoaching.backend.repository.VoiceLogRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ImportJobServiceTests {
+
+    @Autowired ImportJobService importJobService;
+    @Autowired VoiceLogRepository voiceLogRepository;
+
+    @Test
+    void runsImportInBackgroundAndReportsMatchId() throws Exception {
+        ImportJob job = importJobService.submit(MatchImportServiceTests.sampleZip(), "job test");
+        assertThat(importJobService.find(job.getId())).containsSame(job);
+
+        awaitFinished(job);
+
+        assertThat(job.getStage()).isEqualTo(ImportStage.DONE);
+        assertThat(job.getMatchId()).isNotNull();
+        assertThat(job.getRowsPersisted().get()).isEqualTo(466 + 63); // 로그 + 이벤트
+        assertThat(voiceLogRepository.findByGameMatchIdOrderByStartTimeAsc(job.getMatchId())).hasSize(466);
+    }
+
+    @Test
+    void runsBulkImportAsJobAndReportsPerMatchResults() throws Exception {
+        ByteArrayOutputStream outer = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(outer)) {
+            zos.putNextEntry(new ZipEntry("day1/A.zip"));
+            zos.write(MatchImportServiceTests.sampleZip("서버 ID: bulk-job-" + UUID.randomUUID()).getBytes());
+            zos.closeEntry();
+        }
+
+        ImportJob job = importJobService.submitBulk(new MockMultipartFile("file", "day1.zip", "application/zip", outer.toByteArray()));
+        awaitFinished(job);
+
+        assertThat(job.getStage()).isEqualTo(ImportStage.DONE);
+        assertThat(job.getBulkReport().getTotal()).isEqualTo(1);
+        assertThat(job.getBulkReport().getSucceeded()).isEqualTo(1);
+    }
+
+    private static void awaitFinished(ImportJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!job.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
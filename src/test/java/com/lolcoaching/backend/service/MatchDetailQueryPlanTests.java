@@ -0,0 +1,74 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.Dto.MatchResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경기 상세 조회가 전체 테이블이 아니라 경기 단위 인덱스로 그 경기 행만 읽는지 확인 (H2 EXPLAIN ANALYZE)
+ *
+ * H2는 FK마다 match_id 단일 인덱스를 따로 만들어서 그쪽을 고르기도 하지만,
+ * 어느 쪽이든 MATCH_ID 조건으로 범위 스캔하고 읽은 행 수가 그 경기 분량인지를 봅니다.
+ * (MySQL은 FK에 (match_id, ...) 복합 인덱스를 그대로 써서 ORDER BY까지 인덱스 순서로 처리)
+ */
+@SpringBootTest
+class MatchDetailQueryPlanTests {
+
+    @Autowired MatchImportService matchImportService;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private Long matchId;
+
+    @BeforeEach
+    void importSeveralMatches() throws Exception {
+        // 다른 경기 데이터가 쌓여 있어도 읽는 양이 늘지 않아야 함
+        matchImportService.importMatch(MatchImportServiceTests.sampleZip(), "other 1");
+        matchId = matchImportService.importMatch(MatchImportServiceTests.sampleZip(), "target");
+        matchImportService.importMatch(MatchImportServiceTests.sampleZip(), "other 2");
+    }
+
+    @Test
+    void detailReadsOnlyRowsOfRequestedMatch() {
+        MatchResponseDto detail = matchImportService.getMatchDetail(matchId);
+        assertThat(detail.getVoiceLogs()).hasSize(466);
+        assertThat(detail.getPlayers()).hasSize(10);
+        assertThat(detail.getGameEvents()).hasSize(63);
+        assertThat(detail.getVoiceLogs()).isSortedAccordingTo(
+                (a, b) -> Long.compare(a.getStartTime(), b.getStartTime()));
+
+        assertIndexedScan("select * from voice_log where match_id = ? order by start_time, id", 466);
+        assertIndexedScan("select * from player where match_id = ? order by in_game_id", 10);
+        assertIndexedScan("select * from game_event where match_id = ? order by event_time, id", 63);
+    }
+
+    @Test
+    void compositeIndexesExist() {
+        assertThat(indexColumns("VOICE_LOG", "IDX_VOICE_LOG_MATCH_START")).containsExactly("MATCH_ID", "START_TIME");
+        assertThat(indexColumns("PLAYER", "IDX_PLAYER_MATCH_IN_GAME")).containsExactly("MATCH_ID", "IN_GAME_ID");
+        assertThat(indexColumns("GAME_EVENT", "IDX_GAME_EVENT_MATCH_TIME")).containsExactly("MATCH_ID", "EVENT_TIME");
+    }
+
+    private void assertIndexedScan(String sql, int matchRows) {
+        String plan = jdbcTemplate.queryForObject("explain analyze " + sql, String.class, matchId)
+                .replaceAll("\\s+", " ");
+
+        assertThat(plan).as(plan).doesNotContain("tableScan").contains("MATCH_ID = ");
+        // 인덱스 범위 스캔은 조건에 맞는 행 + 범위 끝 확인 1번만 읽음 (전체 3경기 분량이 아님)
+        int scanCount = Integer.parseInt(plan.replaceAll(".*scanCount: (\\d+).*", "$1"));
+        assertThat(scanCount).as(plan).isLessThanOrEqualTo(matchRows + 1);
+    }
+
+    private List<String> indexColumns(String table, String index) {
+        return jdbcTemplate.queryForList(
+                "select column_name from information_schema.index_columns"
+                        + " where table_name = ? and index_name = ? order by ordinal_position",
+                String.class, table, index);
+    }
+}
@@ -0,0 +1,123 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.domain.GameMatch;
+import com.lolcoaching.backend.domain.VoiceLog;
+import com.lolcoaching.backend.repository.GameEventRepository;
+import com.lolcoaching.backend.repository.GameMatchRepository;
+import com.lolcoaching.backend.repository.NetworkMetricRepository;
+import com.lolcoaching.backend.repository.PlayerRepository;
+import com.lolcoaching.backend.repository.VoiceLogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// chunk-size를 작게 잡아서 여러 번 flush 되는 경로까지 확인
+@SpringBootTest(properties = "import.chunk-size=50")
+public class MatchImportServiceTests {
+
+    @Autowired MatchImportService matchImportService;
+    @Autowired GameMatchRepository matchRepository;
+    @Autowired VoiceLogRepository voiceLogRepository;
+    @Autowired GameEventRepository gameEventRepository;
+    @Autowired PlayerRepository playerRepository;
+    @Autowired NetworkMetricRepository networkMetricRepository;
+    @Autowired MeterRegistry meterRegistry;
+
+    @Test
+    void importsSampleMatchFromZip() throws Exception {
+        Long matchId = matchImportService.importMatch(sampleZip(), "T1 vs GEN 1set");
+
+        GameMatch match = matchRepository.findById(matchId).orElseThrow();
+        assertThat(match.getMatchCode()).isEqualTo("T1 vs GEN 1set");
+        assertThat(match.getDuration()).isPositive();
+
+        List<VoiceLog> logs = voiceLogRepository.findByGameMatchIdOrderByStartTimeAsc(matchId);
+        assertThat(logs).hasSize(466);
+        assertThat(logs.get(0).getStartTime()).isZero(); // 첫 발화 기준으로 정규화됨
+        assertThat(logs.get(0).getTextKor()).isEqualTo("위치 느리거든?");
+
+        assertThat(playerRepository.findAll().stream()
+                .filter(p -> p.getGameMatch().getId().equals(matchId))).hasSize(10);
+        assertThat(gameEventRepository.findByGameMatchId(matchId)).hasSize(63);
+        assertThat(networkMetricRepository.findByMatchIdOrderByTimeIndexAsc(matchId)).isNotEmpty();
+    }
+
+    @Test
+    void reuploadOfSameMatchReturnsExistingMatchId() throws Exception {
+        String meta = "서버 ID: dedup-" + UUID.randomUUID();
+        Long first = matchImportService.importMatch(sampleZip(meta), "first");
+        Long second = matchImportService.importMatch(sampleZip(meta), "second");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(matchRepository.findById(first).orElseThrow().getMatchCode()).isEqualTo("first");
+        assertThat(voiceLogRepository.findByGameMatchIdOrderByStartTimeAsc(first)).hasSize(466);
+    }
+
+    @Test
+    void recordsStageTimersAndThroughput() throws Exception {
+        double logsBefore = rowCount("voice_log");
+        double bytesBefore = counterCount("match.import.bytes");
+        double hashBytesBefore = counterCount("match.import.hash.bytes");
+        matchImportService.importMatch(sampleZip(), "metrics");
+
+        for (String stage : List.of("hash", "unzip", "parse", "player_insert", "voice_log_flush", "event_flush", "analyze")) {
+            assertThat(meterRegistry.find("match.import.stage").tag("stage", stage).timer())
+                    .as(stage).isNotNull()
+                    .satisfies(timer -> assertThat(timer.count()).isPositive());
+        }
+        assertThat(rowCount("voice_log") - logsBefore).isEqualTo(466);
+        // da/kor를 두 번 읽고 해시도 따로 읽지만, bytes는 원본을 한 번 훑은 양을 넘지 않음
+        double bytes = counterCount("match.import.bytes") - bytesBefore;
+        double hashBytes = counterCount("match.import.hash.bytes") - hashBytesBefore;
+        assertThat(bytes).isPositive();
+        assertThat(hashBytes).isPositive();
+        assertThat(bytes).isLessThanOrEqualTo(hashBytes);
+        assertThat(meterRegistry.get("match.import.throughput").summary().count()).isPositive();
+    }
+
+    private double counterCount(String name) {
+        var counter = meterRegistry.find(name).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private double rowCount(String type) {
+        var counter = meterRegistry.find("match.import.rows").tag("type", type).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    // data/ 폴더의 샘플 경기를 업로드용 ZIP으로 묶음 (호출할 때마다 다른 경기로 취급되도록 메타데이터를 바꿈)
+    public static MockMultipartFile sampleZip() throws Exception {
+        return sampleZip("서버 ID: " + UUID.randomUUID());
+    }
+
+    public static MockMultipartFile sampleZip(String metaLine) throws Exception {
+        File dir = new File("data");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(bytes)) {
+            zos.putNextEntry(new ZipEntry("match_sample.txt"));
+            zos.write((metaLine + "\n").getBytes(StandardCharsets.UTF_8));
+            zos.closeEntry();
+
+            File[] files = dir.listFiles((d, name) -> name.endsWith(".csv"));
+            for (File file : files) {
+                zos.putNextEntry(new ZipEntry(file.getName()));
+                zos.write(Files.readAllBytes(file.toPath()));
+                zos.closeEntry();
+            }
+        }
+        return new MockMultipartFile("file", "match.zip", "application/zip", bytes.toByteArray());
+    }
+}
@@ -0,0 +1,83 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.Dto.MatchListCursor;
+import com.lolcoaching.backend.Dto.MatchListDto;
+import com.lolcoaching.backend.Dto.MatchListPageDto;
+import com.lolcoaching.backend.domain.GameMatch;
+import com.lolcoaching.backend.repository.GameMatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class MatchListServiceTests {
+
+    @Autowired GameMatchRepository matchRepository;
+    @Autowired MatchListService matchListService;
+
+    @BeforeEach
+    void saveMatches() {
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        // 같은 임포트 시각이 섞여 있어도 id로 순서가 정해져야 함
+        String[] codes = {"LIST T1 vs GEN 1set", "LIST T1 vs GEN 2set", "LIST DK vs KT", "LIST T1_50%", "LIST T1 vs HLE",
+                "LIST GEN vs HLE", "LIST KT vs T1"};
+        for (int i = 0; i < codes.length; i++) {
+            GameMatch match = new GameMatch();
+            match.setMatchCode(codes[i]);
+            match.setContentHash("list-" + i);
+            match.setImportedAt(base.plusMinutes(i / 2));
+            matchRepository.save(match);
+        }
+    }
+
+    @Test
+    void recentPagesWalkNewestFirstWithoutGaps() {
+        List<MatchListDto> all = readAll("LIST", MatchListService.Sort.RECENT, 2);
+
+        assertThat(all).hasSize(7);
+        assertThat(all).extracting(MatchListDto::getId).doesNotHaveDuplicates();
+        assertThat(all).isSortedAccordingTo((a, b) -> {
+            int byTime = b.getImportedAt().compareTo(a.getImportedAt());
+            return byTime != 0 ? byTime : Long.compare(b.getId(), a.getId());
+        });
+    }
+
+    @Test
+    void codePrefixSearchTreatsWildcardsLiterally() {
+        assertThat(readAll("LIST T1", MatchListService.Sort.CODE, 2)).extracting(MatchListDto::getMatchCode)
+                .containsExactly("LIST T1 vs GEN 1set", "LIST T1 vs GEN 2set", "LIST T1 vs HLE", "LIST T1_50%");
+        assertThat(readAll("LIST T1_", MatchListService.Sort.CODE, 10)).extracting(MatchListDto::getMatchCode)
+                .containsExactly("LIST T1_50%");
+    }
+
+    @Test
+    void cursorFromOtherSortIsRejected() {
+        MatchListPageDto page = matchListService.getPage("LIST", MatchListService.Sort.CODE, null, 1);
+        MatchListCursor cursor = MatchListCursor.decode(page.getNextCursor());
+
+        assertThatThrownBy(() -> matchListService.getPage("LIST", MatchListService.Sort.RECENT, cursor, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<MatchListDto> readAll(String query, MatchListService.Sort sort, int limit) {
+        List<MatchListDto> all = new ArrayList<>();
+        MatchListCursor cursor = null;
+        do {
+            MatchListPageDto page = matchListService.getPage(query, sort, cursor, limit);
+            assertThat(page.getItems().size()).isLessThanOrEqualTo(limit);
+            all.addAll(page.getItems());
+            cursor = page.getNextCursor() == null ? null : MatchListCursor.decode(page.getNextCursor());
+        } while (cursor != null);
+        return all;
+    }
+}
@@ -0,0 +1,94 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.Dto.MatchResponseDto;
+import com.lolcoaching.backend.config.CacheConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 캐시: 두 번째 호출은 DB를 안 거치고, 지표 재계산 후에는 그 경기 항목이 지워져야 합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MatchReadCacheTests {
+
+    @Autowired MatchImportService matchImportService;
+    @Autowired NetworkMetricService networkMetricService;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired MeterRegistry meterRegistry;
+    @Autowired CacheManager cacheManager;
+    @Autowired MatchRevisionRegistry matchRevisionRegistry;
+
+    private Statistics stats;
+    private Long matchId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        matchId = matchImportService.importMatch(
+                MatchImportServiceTests.sampleZip("서버 ID: cache-" + UUID.randomUUID()), "cache");
+        stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void repeatedReadsAreServedFromCache() {
+        matchImportService.getMatchDetail(matchId, false);
+        networkMetricService.getMetricTimeline(matchId, 1, 0, MetricResolutions.BASE);
+        networkMetricService.calculateRangeDensity(matchId, 0, 600, 1, 0);
+
+        stats.clear();
+        matchImportService.getMatchDetail(matchId, false);
+        networkMetricService.getMetricTimeline(matchId, 1, 0, MetricResolutions.BASE);
+        networkMetricService.calculateRangeDensity(matchId, 0, 600, 1, 0);
+        assertThat(stats.getPrepareStatementCount()).isZero();
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CacheConfig.RANGE_INDEX).tag("result", "hit")
+                .functionCounter().count()).isPositive();
+    }
+
+    @Test
+    void recomputeEvictsOnlyThatMatch() {
+        networkMetricService.getMetricTimeline(matchId, 1, 0, MetricResolutions.BASE);
+
+        networkMetricService.analyzeAndSaveMetrics(matchId);
+
+        stats.clear();
+        networkMetricService.getMetricTimeline(matchId, 1, 0, MetricResolutions.BASE);
+        assertThat(stats.getPrepareStatementCount()).isPositive();
+    }
+
+    @Test
+    void recomputeOnlyEvictsRangeIndexAndNextQueryRebuildsIt() {
+        networkMetricService.calculateRangeDensity(matchId, 0, 600, 1, 0);
+
+        // 커밋 후에는 지우기만 함 (임포트/재계산 스레드에서 다시 만들지 않음)
+        networkMetricService.analyzeAndSaveMetrics(matchId);
+        assertThat(((CaffeineCache) cacheManager.getCache(CacheConfig.RANGE_INDEX)).getNativeCache().asMap().keySet())
+                .noneMatch(key -> ((CacheConfig.MatchKey) key).matchId().equals(matchId));
+
+        stats.clear();
+        networkMetricService.calculateRangeDensity(matchId, 0, 600, 1, 0);
+        assertThat(stats.getPrepareStatementCount()).isPositive();
+    }
+
+    @Test
+    void lateCachePutFromBeforeCommitIsNotServedUnderNewEtag() {
+        // 커밋 전에 읽기 시작한 조회가 evict 뒤에 예전 값을 넣는 경우 흉내: 예전 ETag 키로 값이 남아 있음
+        CacheConfig.MatchKey oldKey = CacheConfig.MatchKey.of(matchRevisionRegistry, matchId, List.of(false));
+        networkMetricService.analyzeAndSaveMetrics(matchId);
+        cacheManager.getCache(CacheConfig.MATCH_DETAIL).put(oldKey, MatchResponseDto.builder().matchCode("stale").build());
+
+        assertThat(matchImportService.getMatchDetail(matchId, false).getMatchCode()).isEqualTo("cache");
+    }
+}
@@ -0,0 +1,224 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.domain.NetworkMetric;
+import com.lolcoaching.backend.domain.VoiceLog;
+import com.lolcoaching.backend.repository.NetworkMetricRepository;
+import com.lolcoaching.backend.repository.VoiceLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 지표 엔진 회귀 테스트: 구간 x 패턴마다 로그를 다시 훑던 예전 계산(아래 reference)과 결과가 같아야 합니다.
+ */
+@SpringBootTest
+class NetworkMetricServiceTests {
+
+    private static final int[][] PATTERNS = {{1, 0}, {2, 3}, {0, 0}, {0, 1}, {0, 2}, {3, 0}};
+
+    @Autowired MatchImportService matchImportService;
+    @Autowired NetworkMetricService networkMetricService;
+    @Autowired NetworkMetricRepository networkMetricRepository;
+    @Autowired VoiceLogRepository voiceLogRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private Long matchId;
+    private List<VoiceLog> logs;
+    private Map<Integer, List<VoiceLog>> windows;
+    private int lastWindow;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        matchId = matchImportService.importMatch(
+                MatchImportServiceTests.sampleZip("서버 ID: metrics-" + UUID.randomUUID()), "metrics");
+        logs = voiceLogRepository.findByGameMatchIdOrderByStartTimeAsc(matchId);
+        windows = logs.stream().collect(Collectors.groupingBy(l -> (int) (l.getStartTime().longValue() / 10000)));
+        lastWindow = windows.keySet().stream().max(Integer::compareTo).orElseThrow();
+    }
+
+    @Test
+    void savedPatternMetricsMatchReference() {
+        for (int[] pattern : PATTERNS) {
+            List<NetworkMetric> saved = networkMetricRepository
+                    .findByMatchIdAndResolutionAndSourceDaAndTargetDaOrderByTimeIndexAsc(
+                            matchId, MetricResolutions.BASE, pattern[0], pattern[1]);
+            assertThat(saved).hasSize(lastWindow + 1);
+            for (NetworkMetric metric : saved) {
+                List<String[]> edges = edges(windows.getOrDefault(metric.getTimeIndex(), List.of()), pattern[0], pattern[1]);
+                assertMatches(metric, edges, edges.size());
+            }
+        }
+    }
+
+    @Test
+    void realtimeAllPatternMetricsMatchReference() {
+        List<NetworkMetric> all = networkMetricService.getCalculatedAllMetrics(matchId);
+        assertThat(all).hasSize(lastWindow + 1);
+        for (NetworkMetric metric : all) {
+            List<VoiceLog> window = windows.getOrDefault(metric.getTimeIndex(), List.of());
+            assertMatches(metric, edges(window, -1, -1), window.size());
+        }
+    }
+
+    @Test
+    void rollupLevelsMatchReferenceOverMergedWindows() {
+        for (int resolution : List.of(30, 60, MetricResolutions.PHASE)) {
+            for (int[] pattern : PATTERNS) {
+                List<NetworkMetric> saved = networkMetricRepository
+                        .findByMatchIdAndResolutionAndSourceDaAndTargetDaOrderByTimeIndexAsc(
+                                matchId, resolution, pattern[0], pattern[1]);
+                assertThat(saved).isNotEmpty();
+                for (int i = 0; i < saved.size(); i++) {
+                    int end = i + 1 < saved.size() ? saved.get(i + 1).getStartSec() : Integer.MAX_VALUE;
+                    List<String[]> edges = new ArrayList<>();
+                    for (int w : windowsBetween(saved.get(i).getStartSec(), end)) {
+                        edges.addAll(edges(windows.getOrDefault(w, List.of()), pattern[0], pattern[1]));
+                    }
+                    assertMatches(saved.get(i), edges, edges.size());
+                }
+            }
+        }
+
+        List<NetworkMetric> all = networkMetricService.getCalculatedAllMetrics(matchId, 60);
+        assertThat(all).hasSize(lastWindow / 6 + 1);
+        for (NetworkMetric metric : all) {
+            List<String[]> edges = new ArrayList<>();
+            int count = 0;
+            for (int w : windowsBetween(metric.getStartSec(), metric.getStartSec() + 60)) {
+                List<VoiceLog> window = windows.getOrDefault(w, List.of());
+                edges.addAll(edges(window, -1, -1));
+                count += window.size();
+            }
+            assertMatches(metric, edges, count);
+        }
+    }
+
+    // 10초 구간 중 [startSec, endSec) 안에서 시작하는 것
+    private List<Integer> windowsBetween(int startSec, int endSec) {
+        List<Integer> result = new ArrayList<>();
+        for (int w = 0; w <= lastWindow; w++) {
+            if (w * 10 >= startSec && w * 10 < endSec) result.add(w);
+        }
+        return result;
+    }
+
+    @Test
+    void rangeDensityMatchesReference() {
+        int lastSec = (int) (logs.get(logs.size() - 1).getStartTime() / 1000);
+        int[][] ranges = {{0, lastSec}, {0, 30}, {15, 75}, {lastSec / 2, lastSec}, {lastSec, lastSec + 10}, {lastSec + 1, lastSec + 60}};
+        for (int[] range : ranges) {
+            List<VoiceLog> inRange = logs.stream().filter(l -> {
+                long sec = (long) (l.getStartTime() / 1000);
+                return sec >= range[0] && sec <= range[1];
+            }).toList();
+            for (int[] pattern : new int[][]{{-1, -1}, {1, 0}, {0, 0}, {3, 0}}) {
+                double expected = Math.min(edges(inRange, pattern[0], pattern[1]).stream()
+                        .map(Arrays::asList).distinct().count() / 10.0, 1.0);
+                assertThat(networkMetricService.calculateRangeDensity(matchId, range[0], range[1], pattern[0], pattern[1]))
+                        .as(range[0] + "~" + range[1] + "s " + pattern[0] + "->" + pattern[1])
+                        .isCloseTo(expected, within(1e-9));
+            }
+        }
+    }
+
+    @Test
+    void edgesWithNonStandardPositionsAreLeftOut() {
+        // 5개 포지션이 아닌 선수(UNK 등)가 낀 연결은 지표에 넣지 않음 (예전 계산은 그대로 엣지로 세었음)
+        // 발화 수(전체 -1의 count)에는 그대로 포함
+        Long playerId = logs.stream().collect(Collectors.groupingBy(l -> l.getPlayer().getId(), Collectors.counting()))
+                .entrySet().stream().max(Map.Entry.comparingByValue()).orElseThrow().getKey();
+        jdbcTemplate.update("update player set position = 'UNK' where id = ?", playerId);
+        logs = voiceLogRepository.findByGameMatchIdOrderByStartTimeAsc(matchId);
+        windows = logs.stream().collect(Collectors.groupingBy(l -> (int) (l.getStartTime().longValue() / 10000)));
+        assertThat(edges(logs, -1, -1)).anyMatch(e -> e[0].equals("UNK") || e[1].equals("UNK"));
+
+        for (NetworkMetric metric : networkMetricService.getCalculatedAllMetrics(matchId)) {
+            List<VoiceLog> window = windows.getOrDefault(metric.getTimeIndex(), List.of());
+            assertMatches(metric, standardEdges(edges(window, -1, -1)), window.size());
+        }
+
+        networkMetricService.analyzeAndSaveMetrics(matchId);
+        for (int[] pattern : PATTERNS) {
+            for (NetworkMetric metric : networkMetricRepository
+                    .findByMatchIdAndResolutionAndSourceDaAndTargetDaOrderByTimeIndexAsc(
+                            matchId, MetricResolutions.BASE, pattern[0], pattern[1])) {
+                List<String[]> edges = standardEdges(
+                        edges(windows.getOrDefault(metric.getTimeIndex(), List.of()), pattern[0], pattern[1]));
+                assertMatches(metric, edges, edges.size());
+            }
+        }
+    }
+
+    private static List<String[]> standardEdges(List<String[]> edges) {
+        List<String> roles = List.of("TOP", "JUG", "MID", "ADC", "SUP");
+        return edges.stream().filter(e -> roles.contains(e[0]) && roles.contains(e[1])).toList();
+    }
+
+    private static void assertMatches(NetworkMetric metric, List<String[]> edges, int count) {
+        String at = "window " + metric.getTimeIndex() + " " + metric.getSourceDa() + "->" + metric.getTargetDa();
+        assertThat(metric.getCount()).as(at).isEqualTo(count);
+        assertThat(metric.getDensity()).as(at)
+                .isCloseTo(edges.stream().map(Arrays::asList).distinct().count() / 10.0, within(1e-9));
+        double[] c = centralization(edges);
+        assertThat(metric.getCod()).as(at).isCloseTo(c[0], within(1e-9));
+        assertThat(metric.getCid()).as(at).isCloseTo(c[1], within(1e-9));
+        assertThat(metric.getPositionDaCounts().toArray()).as(at).containsExactly(roleCounts(edges, 0));
+        assertThat(metric.getPositionReceiveCounts().toArray()).as(at).containsExactly(roleCounts(edges, 1));
+    }
+
+    // ===== 예전 계산 방식 =====
+
+    private static List<String[]> edges(List<VoiceLog> logs, int sourceDa, int targetDa) {
+        List<String[]> edges = new ArrayList<>();
+        for (int i = 0; i + 1 < logs.size(); i++) {
+            VoiceLog current = logs.get(i);
+            VoiceLog next = logs.get(i + 1);
+            boolean all = sourceDa == -1 && targetDa == -1;
+            if (!all && (current.getActCode() != sourceDa || next.getActCode() != targetDa)) continue;
+            if (current.getPlayer() == null || next.getPlayer() == null
+                    || current.getPlayer().getId().equals(next.getPlayer().getId())) continue;
+            edges.add(new String[]{current.getPlayer().getPosition(), next.getPlayer().getPosition()});
+        }
+        return edges;
+    }
+
+    private static double[] centralization(List<String[]> edges) {
+        if (edges.isEmpty()) return new double[]{0.0, 0.0};
+        Map<String, Integer> out = new HashMap<>();
+        Map<String, Integer> in = new HashMap<>();
+        for (String[] e : edges) {
+            out.merge(e[0], 1, Integer::sum);
+            in.merge(e[1], 1, Integer::sum);
+        }
+        int maxOut = out.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        int maxIn = in.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        double sumOut = 0;
+        double sumIn = 0;
+        for (String node : List.of("TOP", "JUG", "MID", "ADC", "SUP")) {
+            sumOut += maxOut - out.getOrDefault(node, 0);
+            sumIn += maxIn - in.getOrDefault(node, 0);
+        }
+        return new double[]{sumOut / (4.0 * edges.size()), sumIn / (4.0 * edges.size())};
+    }
+
+    private static int[] roleCounts(List<String[]> edges, int side) {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        for (String role : List.of("TOP", "JUG", "MID", "ADC", "SUP")) map.put(role, 0);
+        for (String[] e : edges) map.merge(e[side], 1, Integer::sum);
+        return map.values().stream().mapToInt(Integer::intValue).toArray();
+    }
+}
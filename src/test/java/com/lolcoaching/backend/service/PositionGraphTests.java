@@ -0,0 +1,41 @@
+package com.lolcoaching.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PositionGraphTests {
+
+    @Test
+    void repeatedEdgesCountOnceForDensity() {
+        PositionGraph graph = new PositionGraph();
+        byte top = PositionGraph.ordinal("TOP");
+        byte jug = PositionGraph.ordinal("JUG");
+        byte sup = PositionGraph.ordinal("SUP");
+
+        graph.add(top, jug);
+        graph.add(top, jug);
+        graph.add(top, jug);
+        graph.add(jug, sup);
+
+        assertThat(graph.edgeCount()).isEqualTo(4);
+        assertThat(graph.density()).isCloseTo(0.2, within(1e-9));
+        // 발신: TOP 3, JUG 1 -> (5 * 3 - 4) / (4 * 4)
+        assertThat(graph.cod()).isCloseTo(11 / 16.0, within(1e-9));
+        assertThat(graph.outCounts().toArray()).containsExactly(3, 1, 0, 0, 0);
+        assertThat(graph.inCounts().toArray()).containsExactly(0, 3, 0, 0, 1);
+
+        graph.clear();
+        assertThat(graph.edgeCount()).isZero();
+        assertThat(graph.density()).isZero();
+        assertThat(graph.cod()).isZero();
+    }
+
+    @Test
+    void onlyStandardPositionsHaveOrdinals() {
+        assertThat(PositionGraph.ordinal("SUP")).isEqualTo((byte) 4);
+        assertThat(PositionGraph.ordinal("UNK")).isEqualTo(PositionGraph.UNKNOWN);
+        assertThat(PositionGraph.ordinal(null)).isEqualTo(PositionGraph.UNKNOWN);
+    }
+}
@@ -0,0 +1,37 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.Dto.TranscriptHitDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TranscriptSearchServiceTests {
+
+    @Autowired MatchImportService matchImportService;
+    @Autowired TranscriptSearchService transcriptSearchService;
+
+    @Test
+    void importedMatchIsSearchableRightAfterImport() throws Exception {
+        Long matchId = matchImportService.importMatch(
+                MatchImportServiceTests.sampleZip("서버 ID: search-" + UUID.randomUUID()), "search");
+
+        // 테스트 DB에 같은 대사를 가진 경기가 쌓여 있고, 시작 때 보충 색인(catchUp)이 임포트와 동시에 돌 수 있어서
+        // 색인 순서가 임포트 순서와 다를 수 있음 -> 상한까지 받아서 확인
+        List<TranscriptHitDto> hits = transcriptSearchService.search("위치 느리거든", TranscriptSearchService.MAX_LIMIT);
+
+        assertThat(hits).anySatisfy(hit -> {
+            assertThat(hit.getMatchId()).isEqualTo(matchId);
+            assertThat(hit.getStartTime()).isZero();
+            assertThat(hit.getTextKor()).isEqualTo("위치 느리거든?");
+            assertThat(hit.getPosition()).isNotBlank();
+        });
+        // 대사에 이어져 있지 않은 글자 조합은 나오지 않음
+        assertThat(transcriptSearchService.search("거든위치", 10)).isEmpty();
+    }
+}
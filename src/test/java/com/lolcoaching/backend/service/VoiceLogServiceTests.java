@@ -0,0 +1,63 @@
+package com.lolcoaching.backend.service;
+
+import com.lolcoaching.backend.Dto.VoiceLogCursor;
+import com.lolcoaching.backend.Dto.VoiceLogPageDto;
+import com.lolcoaching.backend.Dto.VoiceLogResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class VoiceLogServiceTests {
+
+    @Autowired MatchImportService matchImportService;
+    @Autowired VoiceLogService voiceLogService;
+
+    private Long matchId;
+
+    @BeforeEach
+    void importMatch() throws Exception {
+        matchId = matchImportService.importMatch(MatchImportServiceTests.sampleZip(), "paging");
+    }
+
+    @Test
+    void cursorWalksWholeTranscriptInOrderWithoutGapsOrDuplicates() {
+        List<VoiceLogResponseDto> all = readAll(null, null, null, null, 100);
+
+        assertThat(all).hasSize(466);
+        assertThat(all).extracting(VoiceLogResponseDto::getLogId).doesNotHaveDuplicates();
+        assertThat(all).isSortedAccordingTo((a, b) -> Long.compare(a.getStartTime(), b.getStartTime()));
+        assertThat(matchImportService.getMatchDetail(matchId, false).getVoiceLogs()).isNull();
+    }
+
+    @Test
+    void filtersByTimeWindowPositionAndAct() {
+        List<VoiceLogResponseDto> window = readAll(60_000.0, 180_000.0, null, null, 7);
+        assertThat(window).isNotEmpty().allSatisfy(log ->
+                assertThat(log.getStartTime()).isBetween(60_000L, 180_000L));
+
+        List<VoiceLogResponseDto> midQuestions = readAll(null, null, List.of("MID"), List.of(1), 50);
+        assertThat(midQuestions).isNotEmpty().allSatisfy(log -> {
+            assertThat(log.getPosition()).isEqualTo("MID");
+            assertThat(log.getActCode()).isEqualTo(1);
+        });
+    }
+
+    private List<VoiceLogResponseDto> readAll(Double from, Double to, List<String> positions, List<Integer> acts, int limit) {
+        List<VoiceLogResponseDto> all = new ArrayList<>();
+        VoiceLogCursor cursor = null;
+        do {
+            VoiceLogPageDto page = voiceLogService.getVoiceLogs(matchId, from, to, positions, acts, cursor, limit);
+            assertThat(page.getItems().size()).isLessThanOrEqualTo(limit);
+            all.addAll(page.getItems());
+            cursor = page.getNextCursor() == null ? null : VoiceLogCursor.decode(page.getNextCursor());
+        } while (cursor != null);
+        return all;
+    }
+}